@@ -1,4 +1,4 @@
-package ar.edu.ubp.sia.optimizaciondrones;
+package ar.edu.ubp.sia.optimizaciondrones.ui;
 
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
@@ -1,7 +1,13 @@
-package ar.edu.ubp.sia.optimizaciondrones;
+package ar.edu.ubp.sia.optimizaciondrones.ui;
 
+import ar.edu.ubp.sia.optimizaciondrones.ConfiguracionAG;
+import ar.edu.ubp.sia.optimizaciondrones.FabricaOperadores;
+import ar.edu.ubp.sia.optimizaciondrones.ProgresoGeneracion;
+import ar.edu.ubp.sia.optimizaciondrones.ServicioOptimizacion;
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.scene.chart.LineChart;
 import javafx.scene.chart.NumberAxis;
@@ -18,15 +24,26 @@ import javafx.scene.layout.AnchorPane;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Controlador principal de la interfaz JavaFX.
  * Orquesta la captura de datos de entrada y la ejecución del proceso de optimización.
+ * La optimización corre en un hilo aparte y el gráfico se actualiza mientras avanza.
  */
 public class MainController {
+
+    /** Intervalo mínimo entre actualizaciones del gráfico durante una ejecución. */
+    private static final long INTERVALO_REFRESCO_NANOS = 100_000_000L;
+
     @FXML private ComboBox<String> cbSeleccion;
     @FXML private ComboBox<String> cbCruza;
     @FXML private ComboBox<String> cbMutacion;
+    @FXML private ComboBox<String> cbDecodificador;
     @FXML private TextField tfPoblacion;
     @FXML private TextField tfGeneraciones;
     @FXML private TextField tfPesoDron;
@@ -45,6 +62,8 @@ public class MainController {
     @FXML private TextField tfProfundidad;
     @FXML private TextField tfCantidad;
     @FXML private Button btnAgregar;
+    @FXML private Button btnEjecutar;
+    @FXML private Button btnCancelar;
     @FXML private TextArea consoleOutput;
     @FXML private AnchorPane chartContainer;
 
@@ -52,16 +71,27 @@ public class MainController {
     private LineChart<Number, Number> fitnessChart;
     private XYChart.Series<Number, Number> fitnessSeries;
 
+    private final ExecutorService ejecutor = Executors.newSingleThreadExecutor(tarea -> {
+        Thread hilo = new Thread(tarea, "optimizacion");
+        hilo.setDaemon(true);
+        return hilo;
+    });
+    private final Queue<ProgresoGeneracion> progresoPendiente = new ConcurrentLinkedQueue<>();
+    private final AtomicLong ultimoRefresco = new AtomicLong();
+    private ServicioOptimizacion optimizacionEnCurso;
+
     /** Inicializa controles, valores por defecto y bindings de la tabla. */
     @FXML
     public void initialize() {
-        cbSeleccion.getItems().addAll("Torneo", "Ruleta", "Ranking");
-        cbCruza.getItems().addAll("Un Punto", "Dos Puntos", "Uniforme");
-        cbMutacion.getItems().addAll("Simple", "Intercambio", "Inversión");
+        cbSeleccion.getItems().addAll(FabricaOperadores.TIPOS_SELECCION);
+        cbCruza.getItems().addAll(FabricaOperadores.TIPOS_CRUZA);
+        cbMutacion.getItems().addAll(FabricaOperadores.TIPOS_MUTACION);
+        cbDecodificador.getItems().addAll(FabricaOperadores.TIPOS_DECODIFICADOR);
 
         cbSeleccion.getSelectionModel().selectFirst();
         cbCruza.getSelectionModel().selectFirst();
         cbMutacion.getSelectionModel().selectFirst();
+        cbDecodificador.getSelectionModel().selectFirst();
         tfPoblacion.setText("30");
         tfGeneraciones.setText("50");
         tfVolumenDron.setText("150000");
@@ -138,7 +168,10 @@ public class MainController {
         alert.showAndWait();
     }
 
-    /** Ejecuta la optimización usando los datos cargados desde la interfaz. */
+    /**
+     * Ejecuta la optimización usando los datos cargados desde la interfaz, en segundo plano.
+     * Al terminar, o al cancelarse, muestra el mejor resultado encontrado.
+     */
     @FXML
     protected void onEjecutar() {
         Map<String, Integer> pedido = new HashMap<>();
@@ -164,11 +197,100 @@ public class MainController {
                 Integer.parseInt(tfPesoDron.getText()),
                 Double.parseDouble(tfVolumenDron.getText())
         );
+        config.setParalelismo(Runtime.getRuntime().availableProcessors());
+        config.setTipoDecodificador(cbDecodificador.getValue());
 
         ServicioOptimizacion optimizacion = new ServicioOptimizacion(volumenProductos, pesosProductos, pedido, config);
-        optimizacion.ejecutar();
-        consoleOutput.setText(optimizacion.outputConsola());
-        mostrarFitnessChart(optimizacion.getResultado().getHistorialFitness());
+        optimizacion.agregarEscucha(this::publicarProgreso);
+
+        Task<Void> tarea = new Task<>() {
+            @Override
+            protected Void call() {
+                optimizacion.ejecutar();
+                return null;
+            }
+        };
+        tarea.setOnSucceeded(e -> {
+            terminarEjecucion();
+            consoleOutput.setText(optimizacion.outputConsola());
+            mostrarFitnessChart(optimizacion.getResultado().getHistorialFitness());
+        });
+        tarea.setOnFailed(e -> {
+            terminarEjecucion();
+            mostrarAlerta("Error", "La optimización falló: " + tarea.getException().getMessage());
+        });
+
+        optimizacionEnCurso = optimizacion;
+        progresoPendiente.clear();
+        ultimoRefresco.set(System.nanoTime() - INTERVALO_REFRESCO_NANOS);
+        fitnessSeries.getData().clear();
+        consoleOutput.setText("Optimizando...");
+        btnEjecutar.setDisable(true);
+        btnCancelar.setDisable(false);
+        ejecutor.execute(tarea);
+    }
+
+    /** Pide detener la optimización en curso; el resultado parcial se muestra al terminar. */
+    @FXML
+    protected void onCancelar() {
+        if (optimizacionEnCurso != null) {
+            optimizacionEnCurso.cancelar();
+            btnCancelar.setDisable(true);
+        }
+    }
+
+    private void terminarEjecucion() {
+        optimizacionEnCurso = null;
+        progresoPendiente.clear();
+        btnEjecutar.setDisable(false);
+        btnCancelar.setDisable(true);
+    }
+
+    /**
+     * Recibe el progreso desde el hilo de la optimización y agenda una actualización de la
+     * interfaz como mucho cada {@code INTERVALO_REFRESCO_NANOS}, con todas las generaciones
+     * acumuladas desde la anterior.
+     */
+    private void publicarProgreso(ProgresoGeneracion progreso) {
+        progresoPendiente.add(progreso);
+        long ahora = System.nanoTime();
+        long ultimo = ultimoRefresco.get();
+        if (ahora - ultimo >= INTERVALO_REFRESCO_NANOS && ultimoRefresco.compareAndSet(ultimo, ahora)) {
+            Platform.runLater(this::volcarProgreso);
+        }
+    }
+
+    /** Agrega al gráfico las generaciones pendientes y resume la última en la consola. */
+    private void volcarProgreso() {
+        ProgresoGeneracion ultimo = null;
+        ProgresoGeneracion progreso;
+        while ((progreso = progresoPendiente.poll()) != null) {
+            agregarPunto(progreso);
+            ultimo = progreso;
+        }
+        if (ultimo != null && optimizacionEnCurso != null) {
+            consoleOutput.setText(String.format("Optimizando... generación %d%n- Mejor aptitud: %.2f%n"
+                            + "- Aptitud promedio: %.2f%n- Diversidad: %.0f%%",
+                    ultimo.getGeneracion(), ultimo.getMejorAptitud(), ultimo.getAptitudPromedio(),
+                    ultimo.getDiversidad() * 100));
+        }
+    }
+
+    /**
+     * Con varias islas llegan varias aptitudes por generación: el punto conserva la mejor,
+     * igual que el historial combinado del resultado.
+     */
+    private void agregarPunto(ProgresoGeneracion progreso) {
+        ObservableList<XYChart.Data<Number, Number>> datos = fitnessSeries.getData();
+        int indice = progreso.getGeneracion() - 1;
+        if (indice < datos.size()) {
+            XYChart.Data<Number, Number> punto = datos.get(indice);
+            if (progreso.getMejorAptitud() > punto.getYValue().doubleValue()) {
+                punto.setYValue(progreso.getMejorAptitud());
+            }
+        } else {
+            datos.add(new XYChart.Data<>(progreso.getGeneracion(), progreso.getMejorAptitud()));
+        }
     }
 
     /** Agrega un dataset de productos predefinido para pruebas rápidas. */
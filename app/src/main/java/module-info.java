@@ -1,4 +1,6 @@
 module ar.edu.ubp.sia.optimizaciondrones {
+    requires ar.edu.ubp.sia.optimizaciondrones.core;
+
     requires javafx.controls;
     requires javafx.fxml;
     requires javafx.web;
@@ -10,6 +12,6 @@ module ar.edu.ubp.sia.optimizaciondrones {
     requires eu.hansolo.tilesfx;
     requires com.almasb.fxgl.all;
 
-    opens ar.edu.ubp.sia.optimizaciondrones to javafx.fxml;
-    exports ar.edu.ubp.sia.optimizaciondrones;
+    opens ar.edu.ubp.sia.optimizaciondrones.ui to javafx.fxml;
+    exports ar.edu.ubp.sia.optimizaciondrones.ui;
 }
\ No newline at end of file
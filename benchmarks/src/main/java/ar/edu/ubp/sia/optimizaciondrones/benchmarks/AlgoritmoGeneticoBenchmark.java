@@ -0,0 +1,64 @@
+package ar.edu.ubp.sia.optimizaciondrones.benchmarks;
+
+import ar.edu.ubp.sia.optimizaciondrones.AlgoritmoGenetico;
+import ar.edu.ubp.sia.optimizaciondrones.ResultadoOptimizacion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide ejecuciones completas de {@link AlgoritmoGenetico#ejecutar()} con la combinación
+ * de operadores por defecto de la interfaz.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AlgoritmoGeneticoBenchmark {
+
+    private static final int GENERACIONES = 20;
+
+    @Param({"100", "1000", "10000"})
+    private int longitud;
+
+    @Param({"10", "100"})
+    private int productos;
+
+    @Param({"30", "200"})
+    private int poblacion;
+
+    @Param({"Torneo"})
+    private String tipoSeleccion;
+
+    @Param({"Dos Puntos"})
+    private String tipoCruza;
+
+    @Param({"Intercambio"})
+    private String tipoMutacion;
+
+    private EscenarioPedido escenario;
+
+    @Setup
+    public void preparar() {
+        escenario = new EscenarioPedido(longitud, productos, 42L);
+    }
+
+    @Benchmark
+    public ResultadoOptimizacion ejecutar() {
+        AlgoritmoGenetico algoritmo = escenario.crearAlgoritmo(EscenarioPedido.configuracion(
+                tipoSeleccion, tipoCruza, tipoMutacion, poblacion, GENERACIONES));
+        return algoritmo.ejecutar();
+    }
+}
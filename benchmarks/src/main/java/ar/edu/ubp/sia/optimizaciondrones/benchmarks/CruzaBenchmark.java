@@ -0,0 +1,67 @@
+package ar.edu.ubp.sia.optimizaciondrones.benchmarks;
+
+import ar.edu.ubp.sia.optimizaciondrones.Cromosoma;
+import ar.edu.ubp.sia.optimizaciondrones.Cruza;
+import ar.edu.ubp.sia.optimizaciondrones.FabricaOperadores;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide cada operador de cruza registrado en {@link FabricaOperadores}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CruzaBenchmark {
+
+    @Param({"Un Punto", "Dos Puntos", "Uniforme"})
+    private String tipoCruza;
+
+    @Param({"100", "1000", "10000", "100000"})
+    private int longitud;
+
+    @Param({"10", "100"})
+    private int productos;
+
+    private Cruza cruza;
+    private Cromosoma padre1;
+    private Cromosoma padre2;
+    private Cromosoma hijo1;
+    private Cromosoma hijo2;
+
+    @Setup
+    public void preparar() {
+        EscenarioPedido escenario = new EscenarioPedido(longitud, productos, 42L);
+        cruza = FabricaOperadores.crearCruza(tipoCruza);
+        padre1 = escenario.cromosomaMezclado();
+        padre2 = escenario.cromosomaMezclado();
+        hijo1 = padre1.clonar();
+        hijo2 = padre2.clonar();
+    }
+
+    @Benchmark
+    public Cromosoma[] cruzar() {
+        return cruza.cruzar(padre1, padre2);
+    }
+
+    /** Cruza escribiendo sobre hijos preexistentes, como hace el algoritmo con su doble buffer. */
+    @Benchmark
+    public Cromosoma cruzarEnDestino() {
+        cruza.cruzar(padre1, padre2, hijo1, hijo2);
+        return hijo1;
+    }
+}
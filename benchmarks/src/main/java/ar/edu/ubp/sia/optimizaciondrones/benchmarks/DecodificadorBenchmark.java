@@ -0,0 +1,67 @@
+package ar.edu.ubp.sia.optimizaciondrones.benchmarks;
+
+import ar.edu.ubp.sia.optimizaciondrones.AlgoritmoGenetico;
+import ar.edu.ubp.sia.optimizaciondrones.ConfiguracionAG;
+import ar.edu.ubp.sia.optimizaciondrones.Cromosoma;
+import ar.edu.ubp.sia.optimizaciondrones.EvaluadorFitness;
+import ar.edu.ubp.sia.optimizaciondrones.ViajeOptimo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide la decodificación a {@link ViajeOptimo} frente al camino de evaluación primitivo,
+ * para cada estrategia de colocación.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecodificadorBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    private int longitud;
+
+    @Param({"10", "100"})
+    private int productos;
+
+    @Param({"Next Fit", "First Fit", "Best Fit"})
+    private String decodificador;
+
+    private AlgoritmoGenetico algoritmo;
+    private EvaluadorFitness evaluador;
+    private Cromosoma cromosoma;
+
+    @Setup
+    public void preparar() {
+        EscenarioPedido escenario = new EscenarioPedido(longitud, productos, 42L);
+        ConfiguracionAG config = EscenarioPedido.configuracion("Torneo", "Un Punto", "Simple", 30, 1);
+        config.setTipoDecodificador(decodificador);
+        algoritmo = escenario.crearAlgoritmo(config);
+        evaluador = escenario.crearEvaluador(false, decodificador);
+        cromosoma = escenario.cromosomaMezclado();
+    }
+
+    @Benchmark
+    public List<ViajeOptimo> decodificarCromosomaAViajes() {
+        return algoritmo.decodificarCromosomaAViajes(cromosoma);
+    }
+
+    @Benchmark
+    public double evaluarFitness() {
+        return evaluador.evaluar(cromosoma);
+    }
+}
@@ -0,0 +1,101 @@
+package ar.edu.ubp.sia.optimizaciondrones.benchmarks;
+
+import ar.edu.ubp.sia.optimizaciondrones.AlgoritmoGenetico;
+import ar.edu.ubp.sia.optimizaciondrones.ConfiguracionAG;
+import ar.edu.ubp.sia.optimizaciondrones.Cromosoma;
+import ar.edu.ubp.sia.optimizaciondrones.EvaluadorFitness;
+import ar.edu.ubp.sia.optimizaciondrones.FabricaOperadores;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Pedido sintético reproducible para los benchmarks: reparte una cantidad total de unidades
+ * entre productos con pesos y volúmenes aleatorios dentro de rangos realistas.
+ */
+final class EscenarioPedido {
+
+    static final int PESO_MAXIMO = 17;
+    static final double VOLUMEN_MAXIMO = 150000;
+
+    private final Map<String, Double> pesosProductos = new LinkedHashMap<>();
+    private final Map<String, Double> volumenProductos = new LinkedHashMap<>();
+    private final Map<String, Integer> pedido = new LinkedHashMap<>();
+    private final double[] pesoPorGen;
+    private final double[] volumenPorGen;
+    private final int[] cantidadPorGen;
+    private final Random random;
+
+    /**
+     * @param unidades largo del cromosoma resultante
+     * @param productos cantidad de productos distintos (se limita a la cantidad de unidades)
+     * @param semilla semilla del generador de datos
+     */
+    EscenarioPedido(int unidades, int productos, long semilla) {
+        int distintos = Math.min(productos, unidades);
+        this.random = new Random(semilla);
+        this.pesoPorGen = new double[distintos];
+        this.volumenPorGen = new double[distintos];
+        this.cantidadPorGen = new int[distintos];
+
+        for (int i = 0; i < distintos; i++) {
+            String nombre = String.format("P%05d", i);
+            pesoPorGen[i] = 0.1 + random.nextDouble() * 8.0;
+            volumenPorGen[i] = 100 + random.nextDouble() * 40000.0;
+            cantidadPorGen[i] = unidades / distintos + (i < unidades % distintos ? 1 : 0);
+            pesosProductos.put(nombre, pesoPorGen[i]);
+            volumenProductos.put(nombre, volumenPorGen[i]);
+            pedido.put(nombre, cantidadPorGen[i]);
+        }
+    }
+
+    /** @return configuración con los operadores indicados y límites de dron fijos. */
+    static ConfiguracionAG configuracion(String seleccion, String cruza, String mutacion,
+                                         int poblacion, int generaciones) {
+        return new ConfiguracionAG(seleccion, cruza, mutacion, poblacion, generaciones,
+                0.8, 0.1, PESO_MAXIMO, VOLUMEN_MAXIMO);
+    }
+
+    /** @return algoritmo listo para ejecutar sobre este pedido. */
+    AlgoritmoGenetico crearAlgoritmo(ConfiguracionAG config) {
+        return new AlgoritmoGenetico(pesosProductos, volumenProductos, pedido, config,
+                FabricaOperadores.crearSeleccion(config.getTipoSeleccion()),
+                FabricaOperadores.crearCruza(config.getTipoCruza()),
+                FabricaOperadores.crearMutacion(config.getTipoMutacion()));
+    }
+
+    /** @return evaluador sobre las mismas tablas que arma {@link AlgoritmoGenetico}. */
+    EvaluadorFitness crearEvaluador(boolean incremental) {
+        return crearEvaluador(incremental, "Next Fit");
+    }
+
+    /** @return evaluador con la estrategia de decodificación indicada. */
+    EvaluadorFitness crearEvaluador(boolean incremental, String tipoDecodificador) {
+        return new EvaluadorFitness(pesoPorGen, volumenPorGen, cantidadPorGen, null,
+                PESO_MAXIMO, VOLUMEN_MAXIMO, incremental, tipoDecodificador);
+    }
+
+    /** @return cromosoma válido con las unidades del pedido mezcladas al azar. */
+    Cromosoma cromosomaMezclado() {
+        int longitud = 0;
+        for (int cantidad : cantidadPorGen) {
+            longitud += cantidad;
+        }
+
+        int[] genes = new int[longitud];
+        int index = 0;
+        for (int gen = 0; gen < cantidadPorGen.length; gen++) {
+            for (int i = 0; i < cantidadPorGen[gen]; i++) {
+                genes[index++] = gen;
+            }
+        }
+        for (int i = genes.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = genes[i];
+            genes[i] = genes[j];
+            genes[j] = temp;
+        }
+        return new Cromosoma(genes);
+    }
+}
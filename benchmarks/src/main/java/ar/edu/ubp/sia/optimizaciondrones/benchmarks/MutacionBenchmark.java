@@ -0,0 +1,56 @@
+package ar.edu.ubp.sia.optimizaciondrones.benchmarks;
+
+import ar.edu.ubp.sia.optimizaciondrones.Cromosoma;
+import ar.edu.ubp.sia.optimizaciondrones.FabricaOperadores;
+import ar.edu.ubp.sia.optimizaciondrones.Mutacion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide cada operador de mutación registrado en {@link FabricaOperadores}.
+ * El mismo cromosoma acumula mutaciones entre invocaciones, como ocurre con un hijo a lo largo de la corrida.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MutacionBenchmark {
+
+    @Param({"Simple", "Intercambio", "Inversión"})
+    private String tipoMutacion;
+
+    @Param({"100", "1000", "10000", "100000"})
+    private int longitud;
+
+    @Param({"10", "100"})
+    private int productos;
+
+    private Mutacion mutacion;
+    private Cromosoma mutado;
+
+    @Setup
+    public void preparar() {
+        EscenarioPedido escenario = new EscenarioPedido(longitud, productos, 42L);
+        mutacion = FabricaOperadores.crearMutacion(tipoMutacion);
+        mutado = escenario.cromosomaMezclado();
+    }
+
+    @Benchmark
+    public Cromosoma mutar() {
+        mutacion.mutar(mutado);
+        return mutado;
+    }
+}
@@ -0,0 +1,74 @@
+package ar.edu.ubp.sia.optimizaciondrones.benchmarks;
+
+import ar.edu.ubp.sia.optimizaciondrones.Cromosoma;
+import ar.edu.ubp.sia.optimizaciondrones.FabricaOperadores;
+import ar.edu.ubp.sia.optimizaciondrones.Seleccion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide el costo de elegir un padre con cada estrategia de selección.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeleccionBenchmark {
+
+    @Param({"Torneo", "Ruleta", "Ranking", "Ruleta (alias)", "Ranking (acumulado)"})
+    private String tipoSeleccion;
+
+    @Param({"30", "1000", "5000"})
+    private int poblacion;
+
+    @Param({"100", "10000"})
+    private int longitud;
+
+    private Seleccion seleccion;
+    private List<Cromosoma> individuos;
+
+    @Setup
+    public void preparar() {
+        EscenarioPedido escenario = new EscenarioPedido(longitud, 10, 42L);
+        Random random = new Random(42L);
+        seleccion = FabricaOperadores.crearSeleccion(tipoSeleccion);
+        individuos = new ArrayList<>(poblacion);
+        for (int i = 0; i < poblacion; i++) {
+            Cromosoma cromosoma = escenario.cromosomaMezclado();
+            cromosoma.setFitness(random.nextDouble());
+            individuos.add(cromosoma);
+        }
+        seleccion.prepararGeneracion(individuos);
+    }
+
+    @Benchmark
+    public Cromosoma seleccionar() {
+        return seleccion.seleccionar(individuos);
+    }
+
+    /** Costo de una generación completa: preparar las tablas y elegir un padre por individuo. */
+    @Benchmark
+    public void seleccionarGeneracion(Blackhole agujero) {
+        seleccion.prepararGeneracion(individuos);
+        for (int i = 0; i < poblacion; i++) {
+            agujero.consume(seleccion.seleccionar(individuos));
+        }
+    }
+}
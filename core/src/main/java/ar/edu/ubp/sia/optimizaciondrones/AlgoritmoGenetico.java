@@ -0,0 +1,756 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.random.RandomGenerator;
+
+/**
+ * Ejecuta la lógica principal del algoritmo genético para optimizar viajes de drones.
+ * El fitness combina aprovechamiento de peso/volumen y minimización de cantidad de viajes.
+ */
+public class AlgoritmoGenetico {
+
+    private static final double TOLERANCIA_APTITUD = 1e-9;
+    private static final int GENES_POR_PERTURBACION = 20;
+    private static final com.sun.management.ThreadMXBean MEDIDOR_ASIGNACIONES = crearMedidorAsignaciones();
+
+    private final ModeloPedido modelo;
+    private final ConfiguracionAG config;
+    private final Seleccion operadorSeleccion;
+    private final Cruza operadorCruza;
+    private final Mutacion operadorMutacion;
+    private final int longitudCromosoma;
+    private final String[] productoPorGen;
+    private final double[] pesoPorGen;
+    private final double[] volumenPorGen;
+    private final int[] unidadesPorGen;
+    private final int[] cantidadPorGen;
+    private final Flota flota;
+    private final EvaluadorFitness evaluador;
+    private final Decodificador decodificadorViajes;
+    private final CacheFitness cacheFitness;
+    private final double aptitudMinimoTeorico;
+    private final List<Cromosoma> pendientesEvaluacion = new ArrayList<>();
+    private final BusquedaLocal[] busquedasLocales;
+    private final List<ForkJoinTask<Boolean>> tareasBusquedaLocal = new ArrayList<>();
+
+    private final RandomGenerator aleatorio;
+
+    private final PoblacionBuffer buffer;
+    private final Cromosoma hijoDescartado;
+    private final List<EscuchaGeneracion> escuchas = new ArrayList<>();
+    private final Set<Cromosoma> cromosomasDistintos = new HashSet<>();
+
+    private List<Cromosoma> poblacion;
+    private ForkJoinPool poolEvaluacion;
+    private List<Double> historialFitness = new ArrayList<>();
+    private List<Integer> historialViajes = new ArrayList<>();
+    private final Cromosoma mejorGlobal;
+    private int viajesMejor;
+    private int generacionMejor;
+    private int generacionUltimaMejora;
+    private int generacionActual;
+    private long inicioNanos;
+    private CriterioParada criterioParada;
+    private volatile boolean cancelada;
+    private int indiceIsla;
+
+    /**
+     * Crea una instancia lista para ejecutar evolución sobre un pedido concreto.
+     *
+     * @param pesosProductos peso unitario por producto
+     * @param volumenProductos volumen unitario por producto
+     * @param pedido cantidad solicitada por producto
+     * @param config parámetros de ejecución del algoritmo
+     * @param seleccion estrategia de selección
+     * @param cruza estrategia de cruza
+     * @param mutacion estrategia de mutación
+     */
+    public AlgoritmoGenetico(Map<String, Double> pesosProductos,
+                             Map<String, Double> volumenProductos,
+                             Map<String, Integer> pedido,
+                             ConfiguracionAG config,
+                             Seleccion seleccion,
+                             Cruza cruza,
+                             Mutacion mutacion) {
+        this(pesosProductos, volumenProductos, pedido, config, seleccion, cruza, mutacion, new SplittableRandom());
+    }
+
+    /**
+     * Crea una instancia cuya población inicial y decisiones de cruza y mutación salen de
+     * {@code aleatorio}; junto con operadores sembrados hace reproducible la ejecución.
+     *
+     * @param aleatorio generador propio del algoritmo, distinto del de cada operador
+     */
+    public AlgoritmoGenetico(Map<String, Double> pesosProductos,
+                             Map<String, Double> volumenProductos,
+                             Map<String, Integer> pedido,
+                             ConfiguracionAG config,
+                             Seleccion seleccion,
+                             Cruza cruza,
+                             Mutacion mutacion,
+                             RandomGenerator aleatorio) {
+        this(ModeloPedido.compilar(pesosProductos, volumenProductos, pedido, config),
+                config, seleccion, cruza, mutacion, aleatorio);
+    }
+
+    /**
+     * Crea una instancia sobre un pedido ya compilado, que puede compartirse entre varias
+     * ejecuciones del mismo pedido, como las islas de {@link ModeloIslas}.
+     *
+     * @param modelo pedido compilado con las unidades por lote y la flota de {@code config}
+     */
+    public AlgoritmoGenetico(ModeloPedido modelo,
+                             ConfiguracionAG config,
+                             Seleccion seleccion,
+                             Cruza cruza,
+                             Mutacion mutacion,
+                             RandomGenerator aleatorio) {
+        this.aleatorio = aleatorio;
+        this.modelo = modelo;
+        this.config = config;
+        this.operadorSeleccion = seleccion;
+        this.operadorCruza = cruza;
+        this.operadorMutacion = mutacion;
+        mutacion.prepararPedido(modelo);
+        this.productoPorGen = modelo.getProductoPorGen();
+        this.pesoPorGen = modelo.getPesoPorGen();
+        this.volumenPorGen = modelo.getVolumenPorGen();
+        this.unidadesPorGen = modelo.getUnidadesPorGen();
+        this.cantidadPorGen = modelo.getCantidadPorGen();
+        this.longitudCromosoma = modelo.getLongitudCromosoma();
+        this.flota = modelo.getFlota();
+
+        this.buffer = new PoblacionBuffer(config.getTamanoPoblacion(), longitudCromosoma);
+        this.poblacion = buffer.getActual();
+        this.hijoDescartado = new Cromosoma(new int[longitudCromosoma]);
+        this.mejorGlobal = new Cromosoma(new int[longitudCromosoma]);
+
+        this.evaluador = new EvaluadorFitness(modelo, config.isEvaluacionIncremental(), config.getTipoDecodificador());
+        this.decodificadorViajes = FabricaOperadores.crearDecodificador(config.getTipoDecodificador());
+        this.cacheFitness = config.getTamanoCacheFitness() > 0
+                ? new CacheFitness(config.getTamanoCacheFitness())
+                : null;
+        // Con varios tipos de dron el fitness de los viajes mínimos depende de qué drones se usen.
+        int viajesMinimos = modelo.getViajesMinimosTeoricos();
+        this.aptitudMinimoTeorico = config.isDetenerEnMinimoTeorico() && viajesMinimos > 0
+                && flota.getCantidadTipos() == 1
+                ? evaluador.fitnessConViajes(viajesMinimos)
+                : 0.0;
+        this.busquedasLocales = new BusquedaLocal[Math.min(config.getElitesBusquedaLocal(), config.getTamanoPoblacion())];
+        for (int i = 0; i < busquedasLocales.length; i++) {
+            busquedasLocales[i] = new BusquedaLocal(modelo, evaluador, config.getTipoDecodificador());
+        }
+    }
+
+    /**
+     * Registra una escucha que recibe el progreso al final de cada generación.
+     * Debe llamarse antes de {@link #ejecutar()}; sin escuchas no se calculan promedio ni diversidad.
+     */
+    public void agregarEscucha(EscuchaGeneracion escucha) {
+        escuchas.add(escucha);
+    }
+
+    /**
+     * Pide detener la evolución desde otro hilo. La generación en curso termina y la ejecución
+     * devuelve el mejor resultado hasta ese momento con {@link CriterioParada#CANCELADA}.
+     * Interrumpir el hilo que ejecuta tiene el mismo efecto.
+     */
+    public void cancelar() {
+        cancelada = true;
+    }
+
+    /** Fija el índice de isla que informan las escuchas. */
+    void setIndiceIsla(int indiceIsla) {
+        this.indiceIsla = indiceIsla;
+    }
+
+    /**
+     * Inicializa la población con cromosomas válidos del tamaño configurado. Cada individuo
+     * es una mezcla aleatoria independiente, salvo la fracción sembrada con la heurística de
+     * {@link ConfiguracionAG#getTipoInicializacion()}: el primero recibe la secuencia heurística
+     * tal cual y los demás una variante con algunos intercambios, para no repetir individuos.
+     */
+    private void inicializarPoblacion() {
+        int[] genes = genesDelPedido();
+        int[] heuristica = crearSecuenciaHeuristica();
+        int sembrados = heuristica == null ? 0
+                : (int) Math.ceil(poblacion.size() * config.getFraccionInicializacionHeuristica());
+
+        for (int i = 0; i < poblacion.size(); i++) {
+            if (i < sembrados) {
+                System.arraycopy(heuristica, 0, genes, 0, genes.length);
+                if (i > 0) {
+                    perturbar(genes);
+                }
+            } else {
+                mezclar(genes);
+            }
+            poblacion.get(i).cargarGenes(genes);
+        }
+    }
+
+    /** @return genes del pedido agrupados por id, antes de cualquier ordenamiento. */
+    private int[] genesDelPedido() {
+        int[] genes = new int[longitudCromosoma];
+        int index = 0;
+        for (int gen = 0; gen < cantidadPorGen.length; gen++) {
+            for (int i = 0; i < cantidadPorGen[gen]; i++) {
+                genes[index++] = gen;
+            }
+        }
+        return genes;
+    }
+
+    /** Mezcla Fisher-Yates con el generador de la instancia. */
+    private void mezclar(int[] genes) {
+        for (int i = genes.length - 1; i > 0; i--) {
+            intercambiar(genes, i, aleatorio.nextInt(i + 1));
+        }
+    }
+
+    /** Aplica un intercambio aleatorio cada {@code GENES_POR_PERTURBACION} genes, al menos uno. */
+    private void perturbar(int[] genes) {
+        if (genes.length < 2) {
+            return;
+        }
+        int intercambios = Math.max(1, genes.length / GENES_POR_PERTURBACION);
+        for (int i = 0; i < intercambios; i++) {
+            intercambiar(genes, aleatorio.nextInt(genes.length), aleatorio.nextInt(genes.length));
+        }
+    }
+
+    private static void intercambiar(int[] genes, int i, int j) {
+        int temp = genes[i];
+        genes[i] = genes[j];
+        genes[j] = temp;
+    }
+
+    /**
+     * @return secuencia de la heurística configurada, o {@code null} para una población
+     *         completamente aleatoria
+     */
+    private int[] crearSecuenciaHeuristica() {
+        return switch (config.getTipoInicializacion()) {
+            case "Peso decreciente" -> ordenarTipos(pesoPorGen, volumenPorGen);
+            case "Volumen decreciente" -> ordenarTipos(volumenPorGen, pesoPorGen);
+            case "First Fit Decreciente" -> firstFitDecreciente();
+            default -> null;
+        };
+    }
+
+    /**
+     * Ordena los genes por el valor principal decreciente del lote de cada tipo y desempata
+     * por el secundario.
+     */
+    private int[] ordenarTipos(double[] principal, double[] secundario) {
+        Integer[] tipos = new Integer[cantidadPorGen.length];
+        for (int gen = 0; gen < tipos.length; gen++) {
+            tipos[gen] = gen;
+        }
+        Arrays.sort(tipos, Comparator
+                .comparingDouble((Integer gen) -> principal[gen] * unidadesPorGen[gen]).reversed()
+                .thenComparing(Comparator.comparingDouble((Integer gen) -> secundario[gen] * unidadesPorGen[gen]).reversed()));
+
+        int[] genes = new int[longitudCromosoma];
+        int index = 0;
+        for (int gen : tipos) {
+            for (int i = 0; i < cantidadPorGen[gen]; i++) {
+                genes[index++] = gen;
+            }
+        }
+        return genes;
+    }
+
+    /**
+     * Reparte los genes con first-fit tomándolos de mayor a menor según la fracción de la
+     * capacidad del dron que ocupan en la dimensión más exigida, y devuelve los genes agrupados
+     * viaje por viaje. Cualquier decodificador reconstruye esos viajes o los une si entran juntos.
+     * Un lote que ocupa varios viajes se ubica en el viaje donde entraron sus primeras unidades.
+     */
+    private int[] firstFitDecreciente() {
+        double pesoMaximo = flota.getPesoMaximo();
+        double volumenMaximo = flota.getVolumenMaximo();
+        double[] tamano = new double[cantidadPorGen.length];
+        for (int gen = 0; gen < tamano.length; gen++) {
+            tamano[gen] = Math.max(pesoMaximo > 0 ? pesoPorGen[gen] / pesoMaximo : 0.0,
+                    volumenMaximo > 0 ? volumenPorGen[gen] / volumenMaximo : 0.0);
+        }
+        int[] genes = ordenarTipos(tamano, tamano);
+
+        Decodificador decodificador = new DecodificadorFirstFit();
+        decodificador.reiniciar(flota);
+        int[] viajeDeGen = new int[genes.length];
+        for (int i = 0; i < genes.length; i++) {
+            int gen = genes[i];
+            int pendientes = unidadesPorGen[gen];
+            viajeDeGen[i] = -1;
+            while (pendientes > 0) {
+                pendientes -= decodificador.colocar(gen, pesoPorGen[gen], volumenPorGen[gen], pendientes);
+                if (viajeDeGen[i] < 0) {
+                    viajeDeGen[i] = decodificador.getUltimoViaje();
+                }
+            }
+        }
+
+        // Conteo por viaje: conserva el orden decreciente dentro de cada viaje.
+        int[] inicioViaje = new int[decodificador.getCantidadViajes() + 1];
+        for (int viaje : viajeDeGen) {
+            inicioViaje[viaje + 1]++;
+        }
+        for (int viaje = 1; viaje < inicioViaje.length; viaje++) {
+            inicioViaje[viaje] += inicioViaje[viaje - 1];
+        }
+        int[] agrupados = new int[genes.length];
+        for (int i = 0; i < genes.length; i++) {
+            agrupados[inicioViaje[viajeDeGen[i]]++] = genes[i];
+        }
+        return agrupados;
+    }
+
+    /**
+     * Evalúa la aptitud de cada cromosoma de la población actual.
+     * Primero resuelve desde la caché las secuencias ya vistas y decodifica sólo el resto.
+     */
+    private void evaluarPoblacion() {
+        if (cacheFitness == null) {
+            evaluarCromosomas(poblacion);
+            return;
+        }
+
+        pendientesEvaluacion.clear();
+        for (Cromosoma cromosoma : poblacion) {
+            Double fitness = cacheFitness.obtener(cromosoma);
+            if (fitness != null) {
+                cromosoma.setFitness(fitness);
+            } else {
+                pendientesEvaluacion.add(cromosoma);
+            }
+        }
+
+        evaluarCromosomas(pendientesEvaluacion);
+        for (Cromosoma cromosoma : pendientesEvaluacion) {
+            cacheFitness.guardar(cromosoma);
+        }
+    }
+
+    /**
+     * Decodifica y asigna fitness a los cromosomas recibidos.
+     * Con paralelismo mayor a 1 los reparte entre los hilos del pool de evaluación.
+     */
+    private void evaluarCromosomas(List<Cromosoma> cromosomas) {
+        if (poolEvaluacion == null) {
+            for (Cromosoma cromosoma : cromosomas) {
+                cromosoma.setFitness(evaluador.evaluar(cromosoma));
+            }
+            return;
+        }
+
+        int umbral = Math.max(1, cromosomas.size() / (config.getParalelismo() * 4));
+        poolEvaluacion.invoke(new TareaEvaluacion(cromosomas, evaluador, 0, cromosomas.size(), umbral));
+    }
+
+    /**
+     * Convierte el cromosoma en una secuencia de viajes respetando límites de peso y volumen.
+     * Cada gen aporta las unidades de su lote y la estrategia de {@link Decodificador} configurada
+     * elige el viaje de cada bloque, igual que en {@link EvaluadorFitness}, y cada viaje recibe el
+     * dron más barato de la flota que admite su carga. Sólo se usa para materializar la mejor solución.
+     */
+    public List<ViajeOptimo> decodificarCromosomaAViajes(Cromosoma cromosoma) {
+        Decodificador decodificador = FabricaOperadores.crearDecodificador(config.getTipoDecodificador());
+        decodificador.reiniciar(flota);
+        List<ViajeOptimo> viajes = new ArrayList<>();
+
+        for (int i = 0, longitud = cromosoma.getLongitud(); i < longitud; i++) {
+            int gen = cromosoma.getGene(i);
+            if (gen < 0 || gen >= productoPorGen.length) {
+                continue;
+            }
+
+            int pendientes = unidadesPorGen[gen];
+            while (pendientes > 0) {
+                int caben = decodificador.colocar(gen, pesoPorGen[gen], volumenPorGen[gen], pendientes);
+                int viaje = decodificador.getUltimoViaje();
+                if (viaje == viajes.size()) {
+                    viajes.add(new ViajeOptimo(viaje + 1));
+                }
+                ViajeOptimo destino = viajes.get(viaje);
+                destino.agregarProducto(productoPorGen[gen], caben, pesoPorGen[gen]);
+                destino.agregarVolumen(volumenPorGen[gen] * caben);
+                pendientes -= caben;
+            }
+        }
+
+        for (int viaje = 0; viaje < viajes.size(); viaje++) {
+            int tipo = flota.tipoParaCarga(decodificador.getPeso(viaje), decodificador.getVolumen(viaje));
+            viajes.get(viaje).setDron(flota.getTipos().get(tipo));
+        }
+        return viajes;
+    }
+
+    /**
+     * Ejecuta el proceso evolutivo completo y devuelve el mejor resultado encontrado.
+     *
+     * @return resultado con mejor solución, historial de fitness y metadatos de ejecución
+     */
+    public ResultadoOptimizacion ejecutar() {
+        if (config.getParalelismo() > 1) {
+            poolEvaluacion = new ForkJoinPool(config.getParalelismo());
+        }
+        try {
+            inicializar();
+            while (verificarParada() == null) {
+                avanzarGeneracion();
+            }
+            return construirResultado();
+        } finally {
+            if (poolEvaluacion != null) {
+                poolEvaluacion.shutdown();
+                poolEvaluacion = null;
+            }
+        }
+    }
+
+    /**
+     * Crea y evalúa la población inicial, reiniciando el seguimiento del mejor individuo.
+     * Desde aquí corre el tiempo máximo configurado.
+     */
+    void inicializar() {
+        inicioNanos = System.nanoTime();
+        historialFitness = new ArrayList<>();
+        historialViajes = new ArrayList<>();
+        generacionMejor = 0;
+        generacionUltimaMejora = 0;
+        generacionActual = 0;
+        criterioParada = null;
+        inicializarPoblacion();
+        evaluarPoblacion();
+        Collections.sort(poblacion);
+        mejorGlobal.copiarDesde(poblacion.get(0));
+        viajesMejor = contarViajes(mejorGlobal);
+    }
+
+    /**
+     * Evalúa los criterios de parada de la configuración después de la última generación.
+     *
+     * @return criterio cumplido, o null si la evolución debe continuar
+     */
+    CriterioParada verificarParada() {
+        if (criterioParada != null) {
+            return criterioParada;
+        }
+
+        double aptitud = mejorGlobal.getFitness();
+        if (cancelada || Thread.currentThread().isInterrupted()) {
+            criterioParada = CriterioParada.CANCELADA;
+        } else if (config.getFitnessObjetivo() > 0 && aptitud >= config.getFitnessObjetivo()) {
+            criterioParada = CriterioParada.FITNESS_OBJETIVO;
+        } else if (aptitudMinimoTeorico > 0 && aptitud >= aptitudMinimoTeorico * (1 - TOLERANCIA_APTITUD)) {
+            criterioParada = CriterioParada.MINIMO_TEORICO;
+        } else if (generacionActual >= config.getNumeroGeneraciones()) {
+            criterioParada = CriterioParada.GENERACIONES;
+        } else if (config.getGeneracionesSinMejora() > 0
+                && generacionActual - 1 - generacionUltimaMejora >= config.getGeneracionesSinMejora()) {
+            criterioParada = CriterioParada.ESTANCAMIENTO;
+        } else if (config.getTiempoMaximoMs() > 0
+                && System.nanoTime() - inicioNanos >= config.getTiempoMaximoMs() * 1_000_000L) {
+            criterioParada = CriterioParada.TIEMPO_MAXIMO;
+        }
+        return criterioParada;
+    }
+
+    /** Detiene la evolución por un criterio cumplido fuera de esta instancia, como en otra isla. */
+    void detener(CriterioParada criterio) {
+        if (criterioParada == null) {
+            criterioParada = criterio;
+        }
+    }
+
+    /**
+     * Produce y evalúa una generación completa con elitismo de un individuo.
+     * Los hijos se escriben directamente sobre el buffer libre de {@link PoblacionBuffer}.
+     * Al terminar la población queda ordenada de mejor a peor, con los mejores individuos refinados
+     * por {@link BusquedaLocal} si está configurada.
+     * <p>
+     * Cada fase se cronometra con {@link System#nanoTime()}, unas pocas lecturas por pareja de
+     * hijos; las métricas sólo se arman si hay escuchas registradas.
+     *
+     * @return mejor cromosoma de la nueva generación
+     */
+    Cromosoma avanzarGeneracion() {
+        int tamano = config.getTamanoPoblacion();
+        boolean informar = !escuchas.isEmpty();
+        long bytesInicio = informar ? bytesAsignadosHilo() : -1;
+        long aciertosInicio = getAciertosCacheFitness();
+        long fallosInicio = getFallosCacheFitness();
+        long nanosSeleccion = 0;
+        long nanosCruza = 0;
+        long nanosMutacion = 0;
+
+        long marca = System.nanoTime();
+        Collections.sort(poblacion);
+        Cromosoma mejor = poblacion.get(0);
+        buffer.getSiguiente(0).copiarDesde(mejor);
+        long nanosOrdenamiento = System.nanoTime() - marca;
+
+        marca = System.nanoTime();
+        operadorSeleccion.prepararGeneracion(poblacion);
+        int escritos = 1;
+
+        while (escritos < tamano) {
+            Cromosoma padre1 = operadorSeleccion.seleccionar(poblacion);
+            Cromosoma padre2 = operadorSeleccion.seleccionar(poblacion);
+            long finSeleccion = System.nanoTime();
+            nanosSeleccion += finSeleccion - marca;
+
+            // Con un único lugar libre el segundo hijo se genera igual y se descarta.
+            Cromosoma hijo1 = buffer.getSiguiente(escritos);
+            Cromosoma hijo2 = escritos + 1 < tamano ? buffer.getSiguiente(escritos + 1) : hijoDescartado;
+
+            if (aleatorio.nextDouble() < config.getProbabilidadCruza()) {
+                operadorCruza.cruzar(padre1, padre2, hijo1, hijo2);
+            } else {
+                hijo1.copiarDesde(padre1);
+                hijo2.copiarDesde(padre2);
+            }
+            long finCruza = System.nanoTime();
+            nanosCruza += finCruza - finSeleccion;
+
+            if (aleatorio.nextDouble() < config.getProbabilidadMutacion()) {
+                operadorMutacion.mutar(hijo1);
+            }
+            if (aleatorio.nextDouble() < config.getProbabilidadMutacion()
+                    && escritos + 1 < tamano) {
+                operadorMutacion.mutar(hijo2);
+            }
+            marca = System.nanoTime();
+            nanosMutacion += marca - finCruza;
+
+            escritos = Math.min(escritos + 2, tamano);
+        }
+
+        buffer.intercambiar();
+        poblacion = buffer.getActual();
+        marca = System.nanoTime();
+        evaluarPoblacion();
+        long finEvaluacion = System.nanoTime();
+
+        Collections.sort(poblacion);
+        long finOrdenamiento = System.nanoTime();
+        nanosOrdenamiento += finOrdenamiento - finEvaluacion;
+        int mejorasBusquedaLocal = refinarMejores();
+        long nanosBusquedaLocal = busquedasLocales.length > 0 ? System.nanoTime() - finOrdenamiento : 0;
+        mejor = poblacion.get(0);
+        registrarMejor(mejor, generacionActual);
+        historialFitness.add(mejor.getFitness());
+        historialViajes.add(viajesMejor);
+        generacionActual++;
+
+        if (informar) {
+            ProgresoGeneracion progreso = new ProgresoGeneracion(indiceIsla, generacionActual);
+            progreso.setNanosSeleccion(nanosSeleccion);
+            progreso.setNanosCruza(nanosCruza);
+            progreso.setNanosMutacion(nanosMutacion);
+            progreso.setNanosEvaluacion(finEvaluacion - marca);
+            progreso.setNanosOrdenamiento(nanosOrdenamiento);
+            progreso.setNanosBusquedaLocal(nanosBusquedaLocal);
+            progreso.setMejorasBusquedaLocal(mejorasBusquedaLocal);
+            progreso.setAciertosCache(getAciertosCacheFitness() - aciertosInicio);
+            progreso.setFallosCache(getFallosCacheFitness() - fallosInicio);
+            if (bytesInicio >= 0) {
+                progreso.setBytesAsignados(bytesAsignadosHilo() - bytesInicio);
+            }
+            notificarEscuchas(progreso);
+        }
+        return mejor;
+    }
+
+    /**
+     * Aplica la búsqueda local a los mejores individuos de la población ordenada, en paralelo si
+     * hay pool de evaluación, y reordena si alguno mejoró. Todos comparten el presupuesto de la
+     * generación. Un individuo igual al anterior se saltea para no refinar dos veces la misma secuencia.
+     *
+     * @return cantidad de individuos mejorados
+     */
+    private int refinarMejores() {
+        if (busquedasLocales.length == 0) {
+            return 0;
+        }
+        long limite = System.nanoTime() + config.getPresupuestoBusquedaLocalMs() * 1_000_000L;
+        int mejoras = 0;
+        // De atrás hacia adelante: al comparar con el anterior ninguno de los dos se está refinando.
+        for (int i = busquedasLocales.length - 1; i >= 0; i--) {
+            Cromosoma elite = poblacion.get(i);
+            if (i > 0 && elite.equals(poblacion.get(i - 1))) {
+                continue;
+            }
+            BusquedaLocal busqueda = busquedasLocales[i];
+            if (poolEvaluacion == null) {
+                mejoras += busqueda.mejorar(elite, limite) ? 1 : 0;
+            } else {
+                tareasBusquedaLocal.add(poolEvaluacion.submit(() -> busqueda.mejorar(elite, limite)));
+            }
+        }
+        for (ForkJoinTask<Boolean> tarea : tareasBusquedaLocal) {
+            mejoras += tarea.join() ? 1 : 0;
+        }
+        tareasBusquedaLocal.clear();
+        if (mejoras > 0) {
+            Collections.sort(poblacion);
+        }
+        return mejoras;
+    }
+
+    /**
+     * Completa el progreso con las aptitudes y la diversidad de la población ordenada y lo
+     * entrega a las escuchas.
+     */
+    private void notificarEscuchas(ProgresoGeneracion progreso) {
+        double suma = 0.0;
+        for (Cromosoma cromosoma : poblacion) {
+            suma += cromosoma.getFitness();
+            cromosomasDistintos.add(cromosoma);
+        }
+        progreso.setMejorAptitud(mejorGlobal.getFitness());
+        progreso.setMejorAptitudGeneracion(poblacion.get(0).getFitness());
+        progreso.setAptitudPromedio(suma / poblacion.size());
+        progreso.setPeorAptitud(poblacion.get(poblacion.size() - 1).getFitness());
+        progreso.setDiversidad((double) cromosomasDistintos.size() / poblacion.size());
+        // Los cromosomas son vistas sobre el buffer que la próxima generación sobrescribe.
+        cromosomasDistintos.clear();
+        for (EscuchaGeneracion escucha : escuchas) {
+            escucha.generacionCompletada(progreso);
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean crearMedidorAsignaciones() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean medidor
+                && medidor.isThreadAllocatedMemorySupported() && medidor.isThreadAllocatedMemoryEnabled()) {
+            return medidor;
+        }
+        return null;
+    }
+
+    /** @return bytes asignados hasta ahora por el hilo actual, o -1 si la JVM no los mide */
+    private static long bytesAsignadosHilo() {
+        return MEDIDOR_ASIGNACIONES != null ? MEDIDOR_ASIGNACIONES.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    /**
+     * Copia los mejores individuos de la población actual para enviarlos a otra isla.
+     * Requiere que la población esté ordenada, como la deja {@link #avanzarGeneracion()}.
+     */
+    List<Cromosoma> seleccionarEmigrantes(int cantidad) {
+        int limite = Math.min(cantidad, poblacion.size());
+        List<Cromosoma> emigrantes = new ArrayList<>(limite);
+        for (int i = 0; i < limite; i++) {
+            emigrantes.add(copiaEvaluada(poblacion.get(i)));
+        }
+        return emigrantes;
+    }
+
+    /**
+     * Sobrescribe a los peores individuos con los inmigrantes recibidos.
+     * Los inmigrantes llegan evaluados, así que no se vuelven a decodificar.
+     */
+    void recibirInmigrantes(List<Cromosoma> inmigrantes) {
+        int limite = Math.min(inmigrantes.size(), poblacion.size() - 1);
+        for (int i = 0; i < limite; i++) {
+            poblacion.get(poblacion.size() - 1 - i).copiarDesde(inmigrantes.get(i));
+        }
+        Collections.sort(poblacion);
+        registrarMejor(poblacion.get(0), Math.max(0, generacionActual - 1));
+    }
+
+    /**
+     * Actualiza el mejor individuo global. Para el estancamiento sólo cuentan mejoras mayores
+     * a la tolerancia: secuencias con los mismos viajes difieren en el último decimal por el
+     * orden de la suma de aprovechamientos.
+     */
+    private void registrarMejor(Cromosoma candidato, int generacion) {
+        if (candidato.getFitness() > mejorGlobal.getFitness()) {
+            if (candidato.getFitness() > mejorGlobal.getFitness() * (1 + TOLERANCIA_APTITUD)) {
+                generacionUltimaMejora = generacion;
+            }
+            generacionMejor = generacion;
+            mejorGlobal.copiarDesde(candidato);
+            viajesMejor = contarViajes(mejorGlobal);
+        }
+    }
+
+    /**
+     * Cuenta los viajes de la decodificación de un cromosoma, sin armar {@link ViajeOptimo}.
+     * Sólo se usa cuando cambia el mejor individuo, para seguir su distancia a la cota inferior.
+     */
+    private int contarViajes(Cromosoma cromosoma) {
+        decodificadorViajes.reiniciar(flota);
+        for (int i = 0, longitud = cromosoma.getLongitud(); i < longitud; i++) {
+            int gen = cromosoma.getGene(i);
+            if (gen < 0 || gen >= pesoPorGen.length) {
+                continue;
+            }
+            int pendientes = unidadesPorGen[gen];
+            while (pendientes > 0) {
+                pendientes -= decodificadorViajes.colocar(gen, pesoPorGen[gen], volumenPorGen[gen], pendientes);
+            }
+        }
+        return decodificadorViajes.getCantidadViajes();
+    }
+
+    /** Arma el resultado con el mejor individuo visto desde {@link #inicializar()}. */
+    ResultadoOptimizacion construirResultado() {
+        ResultadoOptimizacion resultado = new ResultadoOptimizacion();
+        resultado.setConfiguracion(config);
+        resultado.setGeneracionesEjecutadas(generacionActual);
+        resultado.setTiempoEjecucion((System.nanoTime() - inicioNanos) / 1_000_000L);
+        resultado.setCriterioParada(criterioParada != null ? criterioParada : CriterioParada.GENERACIONES);
+        resultado.setMejorAptitud(mejorGlobal.getFitness());
+        resultado.setGeneracionMejor(generacionMejor);
+        resultado.setViajes(decodificarCromosomaAViajes(mejorGlobal));
+        resultado.setAciertosCacheFitness(getAciertosCacheFitness());
+        resultado.setFallosCacheFitness(getFallosCacheFitness());
+        resultado.setHistorialFitness(historialFitness);
+        resultado.setCotaViajes(modelo.getViajesMinimosTeoricos());
+        resultado.setHistorialViajes(historialViajes);
+        return resultado;
+    }
+
+    /** Copia un cromosoma conservando su fitness, que {@link Cromosoma#clonar()} descarta. */
+    private static Cromosoma copiaEvaluada(Cromosoma cromosoma) {
+        Cromosoma copia = cromosoma.clonar();
+        copia.setFitness(cromosoma.getFitness());
+        return copia;
+    }
+
+    /** @return mejor individuo encontrado desde {@link #inicializar()}. */
+    Cromosoma getMejorGlobal() {
+        return mejorGlobal;
+    }
+
+    List<Double> getHistorialFitness() {
+        return historialFitness;
+    }
+
+    /** @return viajes del mejor individuo global al final de cada generación */
+    List<Integer> getHistorialViajes() {
+        return historialViajes;
+    }
+
+    long getAciertosCacheFitness() {
+        return cacheFitness != null ? cacheFitness.getAciertos() : 0;
+    }
+
+    long getFallosCacheFitness() {
+        return cacheFitness != null ? cacheFitness.getFallos() : 0;
+    }
+}
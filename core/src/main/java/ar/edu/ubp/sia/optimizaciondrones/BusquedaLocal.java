@@ -0,0 +1,301 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.util.Arrays;
+
+/**
+ * Búsqueda local que refina un cromosoma moviendo genes entre los viajes de su decodificación.
+ * <p>
+ * Parte de los viajes que arma el {@link Decodificador} configurado y aplica, mientras mejoren,
+ * dos movimientos: reubicar un gen en otro viaje donde entra y intercambiar dos genes de viajes
+ * distintos. Con un único tipo de dron el fitness sólo cambia cuando se vacía un viaje, así que
+ * la búsqueda maximiza la suma de los cuadrados de las cargas relativas de peso y volumen: cada
+ * movimiento que la aumenta concentra la carga en los viajes más llenos y acerca a vaciar los
+ * demás. Cada movimiento se evalúa con la diferencia en los dos viajes que toca, sin decodificar.
+ * <p>
+ * Al terminar, los genes se agrupan viaje por viaje, que ninguna estrategia reparte en más
+ * viajes que los grupos, y la secuencia se evalúa una vez con {@link EvaluadorFitness}; el
+ * cromosoma sólo se reemplaza si mejora su aptitud. Un lote que la decodificación reparte entre
+ * varios viajes queda fijo en ellos. Cada instancia reutiliza sus arreglos, por lo que no debe
+ * usarse desde varios hilos a la vez.
+ */
+class BusquedaLocal {
+
+    private static final double MEJORA_MINIMA = 1e-12;
+    private static final double TOLERANCIA_APTITUD = 1e-9;
+    private static final int EVALUACIONES_POR_CONTROL = 256;
+
+    private final double[] pesoPorGen;
+    private final double[] volumenPorGen;
+    private final int[] unidadesPorGen;
+    private final Flota flota;
+    private final double escalaPeso;
+    private final double escalaVolumen;
+    private final EvaluadorFitness evaluador;
+    private final Decodificador decodificador;
+    private final int[] conteo;
+    private final Cromosoma candidato;
+
+    private final int[] viajeDe;
+    private final boolean[] fijo;
+    private final double[] pesoGen;
+    private final double[] volumenGen;
+    private final int[] genesCandidato;
+    private double[] peso = new double[16];
+    private double[] volumen = new double[16];
+    private int[] genesEnViaje = new int[16];
+    private int[] inicioViaje = new int[17];
+    private int viajes;
+    private int evaluaciones;
+    private boolean agotada;
+
+    /**
+     * @param modelo pedido compilado; un viaje admite una carga si entra en algún dron de su flota
+     * @param evaluador evaluador compartido, usado con un contador propio
+     * @param tipoDecodificador estrategia que arma los viajes iniciales
+     */
+    BusquedaLocal(ModeloPedido modelo, EvaluadorFitness evaluador, String tipoDecodificador) {
+        int longitud = modelo.getLongitudCromosoma();
+        this.pesoPorGen = modelo.getPesoPorGen();
+        this.volumenPorGen = modelo.getVolumenPorGen();
+        this.unidadesPorGen = modelo.getUnidadesPorGen();
+        this.flota = modelo.getFlota();
+        this.escalaPeso = flota.getPesoMaximo() > 0 ? 1.0 / flota.getPesoMaximo() : 0.0;
+        this.escalaVolumen = flota.getVolumenMaximo() > 0 ? 1.0 / flota.getVolumenMaximo() : 0.0;
+        this.evaluador = evaluador;
+        this.decodificador = FabricaOperadores.crearDecodificador(tipoDecodificador);
+        this.conteo = evaluador.crearContador();
+        this.candidato = new Cromosoma(new int[longitud]);
+        this.viajeDe = new int[longitud];
+        this.fijo = new boolean[longitud];
+        this.pesoGen = new double[longitud];
+        this.volumenGen = new double[longitud];
+        this.genesCandidato = new int[longitud];
+    }
+
+    /**
+     * Refina el cromosoma hasta no encontrar movimientos que mejoren o hasta {@code limiteNanos}.
+     * Los cromosomas que no cubren el pedido no se tocan: mover genes no cambia su cobertura.
+     *
+     * @param limiteNanos instante de {@link System#nanoTime()} a partir del cual se deja de buscar
+     * @return true si el cromosoma se reemplazó por uno de mejor aptitud, ya evaluado
+     */
+    boolean mejorar(Cromosoma cromosoma, long limiteNanos) {
+        if (cromosoma.getFitness() <= 0) {
+            return false;
+        }
+        decodificarViajes(cromosoma);
+        int viajesIniciales = viajes;
+        evaluaciones = 0;
+        agotada = false;
+
+        boolean mejoro = true;
+        while (mejoro && !agotada) {
+            mejoro = reubicar(limiteNanos);
+            mejoro |= intercambiar(limiteNanos);
+        }
+
+        int viajesFinales = 0;
+        for (int viaje = 0; viaje < viajes; viaje++) {
+            viajesFinales += genesEnViaje[viaje] > 0 ? 1 : 0;
+        }
+        // Con un único dron la aptitud depende sólo de la cantidad de viajes.
+        if (viajesFinales == viajesIniciales && flota.getCantidadTipos() == 1) {
+            return false;
+        }
+
+        agruparPorViaje(cromosoma);
+        candidato.cargarGenes(genesCandidato);
+        candidato.setFitness(evaluador.evaluar(candidato, conteo));
+        if (candidato.getFitness() <= cromosoma.getFitness() * (1 + TOLERANCIA_APTITUD)) {
+            return false;
+        }
+        cromosoma.copiarDesde(candidato);
+        return true;
+    }
+
+    /**
+     * Reparte el cromosoma con el decodificador y registra el viaje de cada gen y la carga de
+     * cada viaje. Un lote repartido en varios viajes queda fijo y se agrupa con el primero.
+     */
+    private void decodificarViajes(Cromosoma cromosoma) {
+        decodificador.reiniciar(flota);
+        viajes = 0;
+        for (int i = 0, longitud = cromosoma.getLongitud(); i < longitud; i++) {
+            int gen = cromosoma.getGene(i);
+            viajeDe[i] = -1;
+            fijo[i] = true;
+            if (gen < 0 || gen >= pesoPorGen.length) {
+                continue;
+            }
+
+            int unidades = unidadesPorGen[gen];
+            int pendientes = unidades;
+            while (pendientes > 0) {
+                pendientes -= decodificador.colocar(gen, pesoPorGen[gen], volumenPorGen[gen], pendientes);
+                int viaje = decodificador.getUltimoViaje();
+                if (viaje == viajes) {
+                    abrirViaje();
+                }
+                // Cada parte de un lote fijo cuenta como un gen que nunca sale del viaje.
+                genesEnViaje[viaje]++;
+                if (viajeDe[i] < 0) {
+                    viajeDe[i] = viaje;
+                    fijo[i] = pendientes > 0;
+                }
+            }
+            pesoGen[i] = pesoPorGen[gen] * unidades;
+            volumenGen[i] = volumenPorGen[gen] * unidades;
+        }
+
+        for (int viaje = 0; viaje < viajes; viaje++) {
+            peso[viaje] = decodificador.getPeso(viaje);
+            volumen[viaje] = decodificador.getVolumen(viaje);
+        }
+    }
+
+    private void abrirViaje() {
+        if (viajes == peso.length) {
+            int capacidad = 2 * peso.length;
+            peso = new double[capacidad];
+            volumen = new double[capacidad];
+            genesEnViaje = Arrays.copyOf(genesEnViaje, capacidad);
+            inicioViaje = new int[capacidad + 1];
+        }
+        genesEnViaje[viajes++] = 0;
+    }
+
+    /** Lleva cada gen al viaje donde más aumenta la suma de cuadrados, si alguno la aumenta. */
+    private boolean reubicar(long limiteNanos) {
+        boolean mejoro = false;
+        for (int i = 0; i < viajeDe.length && !agotada; i++) {
+            if (fijo[i]) {
+                continue;
+            }
+            int origen = viajeDe[i];
+            double p = pesoGen[i] * escalaPeso;
+            double v = volumenGen[i] * escalaVolumen;
+            double pesoOrigen = peso[origen] * escalaPeso;
+            double volumenOrigen = volumen[origen] * escalaVolumen;
+
+            int mejorDestino = -1;
+            double mejorDelta = MEJORA_MINIMA;
+            for (int destino = 0; destino < viajes; destino++) {
+                if (destino == origen || genesEnViaje[destino] == 0
+                        || !admite(peso[destino] + pesoGen[i], volumen[destino] + volumenGen[i])) {
+                    continue;
+                }
+                // f(origen - x) + f(destino + x) - f(origen) - f(destino), con f(c) = c·c.
+                double delta = 2 * (p * (peso[destino] * escalaPeso - pesoOrigen)
+                        + v * (volumen[destino] * escalaVolumen - volumenOrigen)) + 2 * (p * p + v * v);
+                if (delta > mejorDelta) {
+                    mejorDelta = delta;
+                    mejorDestino = destino;
+                }
+            }
+            if (mejorDestino >= 0) {
+                mover(i, origen, mejorDestino);
+                mejoro = true;
+            }
+            controlarPresupuesto(viajes, limiteNanos);
+        }
+        return mejoro;
+    }
+
+    /** Intercambia pares de genes de viajes distintos mientras aumenten la suma de cuadrados. */
+    private boolean intercambiar(long limiteNanos) {
+        boolean mejoro = false;
+        for (int i = 0; i < viajeDe.length && !agotada; i++) {
+            if (fijo[i]) {
+                continue;
+            }
+            for (int j = i + 1; j < viajeDe.length; j++) {
+                int a = viajeDe[i];
+                int b = viajeDe[j];
+                if (fijo[j] || a == b) {
+                    continue;
+                }
+                double dPeso = pesoGen[j] - pesoGen[i];
+                double dVolumen = volumenGen[j] - volumenGen[i];
+                if (dPeso == 0 && dVolumen == 0) {
+                    continue;
+                }
+                // El viaje a recibe d = y - x y el b lo pierde: 2 d·(a - b) + 2 d·d.
+                double p = dPeso * escalaPeso;
+                double v = dVolumen * escalaVolumen;
+                double delta = 2 * (p * (peso[a] - peso[b]) * escalaPeso + v * (volumen[a] - volumen[b]) * escalaVolumen)
+                        + 2 * (p * p + v * v);
+                if (delta > MEJORA_MINIMA
+                        && admite(peso[a] + dPeso, volumen[a] + dVolumen)
+                        && admite(peso[b] - dPeso, volumen[b] - dVolumen)) {
+                    peso[a] += dPeso;
+                    volumen[a] += dVolumen;
+                    peso[b] -= dPeso;
+                    volumen[b] -= dVolumen;
+                    viajeDe[i] = b;
+                    viajeDe[j] = a;
+                    mejoro = true;
+                }
+            }
+            controlarPresupuesto(viajeDe.length - i, limiteNanos);
+        }
+        return mejoro;
+    }
+
+    private void mover(int posicion, int origen, int destino) {
+        peso[origen] -= pesoGen[posicion];
+        volumen[origen] -= volumenGen[posicion];
+        peso[destino] += pesoGen[posicion];
+        volumen[destino] += volumenGen[posicion];
+        genesEnViaje[origen]--;
+        genesEnViaje[destino]++;
+        viajeDe[posicion] = destino;
+        if (genesEnViaje[origen] == 0) {
+            // Sin genes la carga es cero; se descarta el error acumulado de las restas.
+            peso[origen] = 0.0;
+            volumen[origen] = 0.0;
+        }
+    }
+
+    /** @return true si la carga entra en algún tipo de dron, con la comparación de {@link Decodificador}. */
+    private boolean admite(double pesoCarga, double volumenCarga) {
+        for (int tipo = 0; tipo < flota.getCantidadTipos(); tipo++) {
+            if (pesoCarga <= flota.getPesoMaximo(tipo) && volumenCarga <= flota.getVolumenMaximo(tipo)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Cuenta las evaluaciones de movimientos y consulta el reloj cada tanto. */
+    private void controlarPresupuesto(int evaluadas, long limiteNanos) {
+        evaluaciones += evaluadas;
+        if (evaluaciones >= EVALUACIONES_POR_CONTROL) {
+            evaluaciones = 0;
+            agotada = System.nanoTime() - limiteNanos >= 0;
+        }
+    }
+
+    /**
+     * Escribe en {@link #genesCandidato} los genes ordenados por viaje, conservando el orden del
+     * cromosoma dentro de cada uno. Los genes fuera del pedido quedan al final.
+     */
+    private void agruparPorViaje(Cromosoma cromosoma) {
+        Arrays.fill(inicioViaje, 0, viajes + 1, 0);
+        int fuera = 0;
+        for (int viaje : viajeDe) {
+            if (viaje >= 0) {
+                inicioViaje[viaje + 1]++;
+            } else {
+                fuera++;
+            }
+        }
+        for (int viaje = 1; viaje <= viajes; viaje++) {
+            inicioViaje[viaje] += inicioViaje[viaje - 1];
+        }
+        int finales = viajeDe.length - fuera;
+        for (int i = 0; i < viajeDe.length; i++) {
+            int viaje = viajeDe[i];
+            genesCandidato[viaje >= 0 ? inicioViaje[viaje]++ : finales++] = cromosoma.getGene(i);
+        }
+    }
+}
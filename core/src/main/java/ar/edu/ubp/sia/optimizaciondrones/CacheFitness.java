@@ -0,0 +1,65 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caché acotada de fitness por secuencia de genes con desalojo LRU.
+ * Las claves son copias de los cromosomas evaluados, por lo que mutar un cromosoma
+ * después de guardarlo no altera la entrada.
+ */
+public class CacheFitness {
+
+    private final int capacidad;
+    private final Map<Cromosoma, Double> entradas;
+    private long aciertos;
+    private long fallos;
+
+    /**
+     * @param capacidad cantidad máxima de secuencias recordadas
+     */
+    public CacheFitness(int capacidad) {
+        this.capacidad = capacidad;
+        this.entradas = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Cromosoma, Double> eldest) {
+                return size() > CacheFitness.this.capacidad;
+            }
+        };
+    }
+
+    /**
+     * Busca el fitness de un cromosoma con los mismos genes y actualiza los contadores.
+     *
+     * @return fitness almacenado o {@code null} si la secuencia no está en caché
+     */
+    public Double obtener(Cromosoma cromosoma) {
+        Double fitness = entradas.get(cromosoma);
+        if (fitness == null) {
+            fallos++;
+        } else {
+            aciertos++;
+        }
+        return fitness;
+    }
+
+    /** Guarda el fitness ya calculado de un cromosoma. */
+    public void guardar(Cromosoma cromosoma) {
+        entradas.put(cromosoma.clonar(), cromosoma.getFitness());
+    }
+
+    /** @return consultas resueltas sin decodificar. */
+    public long getAciertos() {
+        return aciertos;
+    }
+
+    /** @return consultas que requirieron decodificar el cromosoma. */
+    public long getFallos() {
+        return fallos;
+    }
+
+    /** @return cantidad de secuencias almacenadas. */
+    public int getTamano() {
+        return entradas.size();
+    }
+}
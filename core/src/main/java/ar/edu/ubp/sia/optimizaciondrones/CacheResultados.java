@@ -0,0 +1,158 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caché acotada de resultados por pedido, para no volver a optimizar pedidos repetidos.
+ * <p>
+ * La clave es la forma canónica del pedido y de la capacidad de los viajes: productos ordenados
+ * por id con su cantidad, peso y volumen unitarios, unidades por lote y cada tipo de dron de la
+ * flota. Dos pedidos con los mismos productos y cantidades comparten entrada aunque sus mapas
+ * tengan otro orden; el resto de la configuración, como la semilla o los operadores, no forma
+ * parte de la clave, así que un acierto devuelve la solución de la primera ejecución.
+ * <p>
+ * Las entradas vencen {@code vigenciaMs} después de guardarse y, al superar la capacidad, se
+ * desaloja la usada hace más tiempo. Es segura entre hilos; dos pedidos iguales que fallan a
+ * la vez se optimizan ambos y queda guardado el último.
+ */
+public class CacheResultados {
+
+    private final int capacidad;
+    private final long vigenciaNanos;
+    private final Map<String, Entrada> entradas;
+    private long aciertos;
+    private long fallos;
+    private long vencidas;
+    private long desalojadas;
+
+    /**
+     * @param capacidad cantidad máxima de pedidos recordados
+     * @param vigenciaMs milisegundos que vale un resultado guardado, 0 sin vencimiento
+     * @throws IllegalArgumentException si la capacidad no es positiva o la vigencia es negativa
+     */
+    public CacheResultados(int capacidad, long vigenciaMs) {
+        if (capacidad <= 0 || vigenciaMs < 0) {
+            throw new IllegalArgumentException("Se requiere capacidad > 0 y vigencia >= 0");
+        }
+        this.capacidad = capacidad;
+        this.vigenciaNanos = TimeUnit.MILLISECONDS.toNanos(vigenciaMs);
+        this.entradas = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entrada> eldest) {
+                if (size() > CacheResultados.this.capacidad) {
+                    desalojadas++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Arma la clave canónica de un pedido. Los productos con cantidad 0 no cuentan, igual que
+     * en {@link ModeloPedido}.
+     *
+     * @throws IllegalArgumentException si un producto del pedido no tiene peso o volumen
+     */
+    public static String clave(Map<String, Double> pesosProductos, Map<String, Double> volumenProductos,
+                               Map<String, Integer> pedido, ConfiguracionAG config) {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Integer> item : new TreeMap<>(pedido).entrySet()) {
+            if (item.getValue() == null || item.getValue() == 0) {
+                continue;
+            }
+            Double peso = pesosProductos.get(item.getKey());
+            Double volumen = volumenProductos.get(item.getKey());
+            if (peso == null || volumen == null) {
+                throw new IllegalArgumentException("Producto sin peso o volumen: " + item.getKey());
+            }
+            sb.append(item.getKey()).append('=').append(item.getValue())
+                    .append('@').append(peso).append('/').append(volumen).append(';');
+        }
+
+        sb.append("|lote=").append(config.getUnidadesPorLote());
+        List<TipoDron> tipos = new ArrayList<>(config.getFlota().getTipos());
+        tipos.sort(Comparator.comparing(TipoDron::getNombre));
+        for (TipoDron dron : tipos) {
+            sb.append('|').append(dron.getNombre()).append('=').append(dron.getPesoMaximo())
+                    .append('/').append(dron.getVolumenMaximo()).append('x').append(dron.getDronesPorRonda())
+                    .append('$').append(dron.getCostoPorViaje());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Busca el resultado de un pedido y actualiza los contadores. Una entrada vencida se
+     * descarta y cuenta como fallo.
+     *
+     * @return copia del resultado guardado, marcada como tomada de la caché, o {@code null}
+     */
+    public synchronized ResultadoOptimizacion obtener(String clave) {
+        Entrada entrada = entradas.get(clave);
+        if (entrada != null && vigenciaNanos > 0 && System.nanoTime() - entrada.guardadoNanos >= vigenciaNanos) {
+            entradas.remove(clave);
+            vencidas++;
+            entrada = null;
+        }
+        if (entrada == null) {
+            fallos++;
+            return null;
+        }
+        aciertos++;
+        ResultadoOptimizacion copia = entrada.resultado.copiar();
+        copia.setDesdeCache(true);
+        return copia;
+    }
+
+    /** Guarda una copia del resultado de un pedido, reemplazando la anterior si la había. */
+    public synchronized void guardar(String clave, ResultadoOptimizacion resultado) {
+        entradas.put(clave, new Entrada(resultado.copiar(), System.nanoTime()));
+    }
+
+    /** Descarta todas las entradas; los contadores se conservan. */
+    public synchronized void limpiar() {
+        entradas.clear();
+    }
+
+    /** @return consultas resueltas sin optimizar. */
+    public synchronized long getAciertos() {
+        return aciertos;
+    }
+
+    /** @return consultas que requirieron optimizar el pedido, incluidas las vencidas. */
+    public synchronized long getFallos() {
+        return fallos;
+    }
+
+    /** @return entradas descartadas al consultarlas después de su vigencia. */
+    public synchronized long getVencidas() {
+        return vencidas;
+    }
+
+    /** @return entradas desalojadas por superar la capacidad. */
+    public synchronized long getDesalojadas() {
+        return desalojadas;
+    }
+
+    /** @return cantidad de pedidos almacenados. */
+    public synchronized int getTamano() {
+        return entradas.size();
+    }
+
+    private static final class Entrada {
+
+        private final ResultadoOptimizacion resultado;
+        private final long guardadoNanos;
+
+        Entrada(ResultadoOptimizacion resultado, long guardadoNanos) {
+            this.resultado = resultado;
+            this.guardadoNanos = guardadoNanos;
+        }
+    }
+}
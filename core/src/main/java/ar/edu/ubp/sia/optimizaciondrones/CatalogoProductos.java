@@ -0,0 +1,79 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Peso y volumen unitario de los productos que pueden aparecer en un pedido.
+ * Es inmutable, así que una sola instancia se comparte entre todos los pedidos y hilos de
+ * {@link ServicioLotes} sin copiar sus tablas por pedido.
+ */
+public final class CatalogoProductos {
+
+    private final Map<String, Double> pesosProductos;
+    private final Map<String, Double> volumenProductos;
+
+    /**
+     * @param pesosProductos peso unitario por producto
+     * @param volumenProductos volumen unitario por producto, con los mismos productos
+     * @throws IllegalArgumentException si los productos no coinciden o algún valor es negativo
+     */
+    public CatalogoProductos(Map<String, Double> pesosProductos, Map<String, Double> volumenProductos) {
+        if (!pesosProductos.keySet().equals(volumenProductos.keySet())) {
+            throw new IllegalArgumentException("Los productos con peso y con volumen no coinciden");
+        }
+        Map<String, Double> pesos = new LinkedHashMap<>();
+        Map<String, Double> volumenes = new LinkedHashMap<>();
+        for (Map.Entry<String, Double> item : pesosProductos.entrySet()) {
+            double peso = item.getValue();
+            double volumen = volumenProductos.get(item.getKey());
+            if (!(peso >= 0) || !(volumen >= 0)) {
+                throw new IllegalArgumentException("Peso o volumen inválido para " + item.getKey());
+            }
+            pesos.put(item.getKey(), peso);
+            volumenes.put(item.getKey(), volumen);
+        }
+        // Conserva el orden de entrada: Map.copyOf itera distinto en cada JVM y eso cambiaría los ids de gen.
+        this.pesosProductos = Collections.unmodifiableMap(pesos);
+        this.volumenProductos = Collections.unmodifiableMap(volumenes);
+    }
+
+    /** @return catálogo con los productos de un pedido leído, incluidos los de cantidad 0. */
+    public static CatalogoProductos desde(DatosPedido datos) {
+        return new CatalogoProductos(datos.getPesosProductos(), datos.getVolumenProductos());
+    }
+
+    /**
+     * Verifica que todos los productos del pedido estén en el catálogo con cantidad positiva.
+     *
+     * @throws IllegalArgumentException con el primer producto inválido
+     */
+    public void validarPedido(Map<String, Integer> pedido) {
+        if (pedido.isEmpty()) {
+            throw new IllegalArgumentException("El pedido no tiene productos");
+        }
+        for (Map.Entry<String, Integer> item : pedido.entrySet()) {
+            if (!pesosProductos.containsKey(item.getKey())) {
+                throw new IllegalArgumentException("Producto fuera del catálogo: " + item.getKey());
+            }
+            if (item.getValue() == null || item.getValue() <= 0) {
+                throw new IllegalArgumentException("Cantidad inválida para " + item.getKey() + ": " + item.getValue());
+            }
+        }
+    }
+
+    /** @return peso unitario por producto, no modificable */
+    public Map<String, Double> getPesosProductos() {
+        return pesosProductos;
+    }
+
+    /** @return volumen unitario por producto, no modificable */
+    public Map<String, Double> getVolumenProductos() {
+        return volumenProductos;
+    }
+
+    public int getCantidadProductos() {
+        return pesosProductos.size();
+    }
+}
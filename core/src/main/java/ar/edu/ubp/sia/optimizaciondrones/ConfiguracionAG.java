@@ -0,0 +1,404 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.util.SplittableRandom;
+
+/**
+ * Encapsula parámetros de configuración para una ejecución del algoritmo genético.
+ */
+public class ConfiguracionAG {
+
+    private String tipoSeleccion;
+    private String tipoCruza;
+    private String tipoMutacion;
+    private int tamanoPoblacion;
+    private int numeroGeneraciones;
+    private double probabilidadCruza;
+    private double probabilidadMutacion;
+    private int pesoMaximoPorViaje;
+    private double capacidadVolumenCaja;
+    private int paralelismo = 1;
+    private int tamanoCacheFitness = 256;
+    private boolean evaluacionIncremental = true;
+    private int numeroIslas = 1;
+    private int intervaloMigracion = 25;
+    private int cantidadMigrantes = 2;
+    private boolean islasHeterogeneas = true;
+    private int generacionesSinMejora;
+    private double fitnessObjetivo;
+    private boolean detenerEnMinimoTeorico = true;
+    private long tiempoMaximoMs;
+    private int unidadesPorLote = 1;
+    private String tipoDecodificador = "Next Fit";
+    private String tipoInicializacion = "Aleatoria";
+    private double fraccionInicializacionHeuristica = 0.2;
+    private Long semilla;
+    private Flota flota;
+    private int elitesBusquedaLocal;
+    private long presupuestoBusquedaLocalMs = 20;
+    private int unidadesBusquedaExacta = 24;
+
+    /**
+     * Construye una configuración completa para ejecutar la optimización.
+     */
+    public ConfiguracionAG(String tipoSeleccion, String tipoCruza, String tipoMutacion,
+                           int tamanoPoblacion, int numeroGeneraciones, double probabilidadCruza,
+                           double probabilidadMutacion, int pesoMaximoPorViaje, double capacidadVolumenCaja) {
+        this.tipoSeleccion = tipoSeleccion;
+        this.tipoCruza = tipoCruza;
+        this.tipoMutacion = tipoMutacion;
+        this.tamanoPoblacion = tamanoPoblacion;
+        this.numeroGeneraciones = numeroGeneraciones;
+        this.probabilidadCruza = probabilidadCruza;
+        this.probabilidadMutacion = probabilidadMutacion;
+        this.pesoMaximoPorViaje = pesoMaximoPorViaje;
+        this.capacidadVolumenCaja = capacidadVolumenCaja;
+    }
+
+    /** @return true si los parámetros básicos permiten una ejecución válida. */
+    public boolean esValida() {
+        return tamanoPoblacion > 0
+                && numeroGeneraciones > 0
+                && probabilidadCruza >= 0 && probabilidadCruza <= 1
+                && probabilidadMutacion >= 0 && probabilidadMutacion <= 1
+                && paralelismo > 0
+                && tamanoCacheFitness >= 0
+                && numeroIslas > 0
+                && intervaloMigracion > 0
+                && cantidadMigrantes >= 0 && (numeroIslas == 1 || cantidadMigrantes < tamanoPoblacion)
+                && generacionesSinMejora >= 0
+                && fitnessObjetivo >= 0
+                && tiempoMaximoMs >= 0
+                && unidadesPorLote > 0
+                && FabricaOperadores.TIPOS_DECODIFICADOR.contains(tipoDecodificador)
+                && FabricaOperadores.TIPOS_INICIALIZACION.contains(tipoInicializacion)
+                && fraccionInicializacionHeuristica >= 0 && fraccionInicializacionHeuristica <= 1
+                && elitesBusquedaLocal >= 0
+                && presupuestoBusquedaLocalMs > 0
+                && unidadesBusquedaExacta >= 0
+                && tipoSeleccion != null && !tipoSeleccion.isEmpty()
+                && tipoCruza != null && !tipoCruza.isEmpty()
+                && tipoMutacion != null && !tipoMutacion.isEmpty();
+    }
+
+    public String getTipoSeleccion() {
+        return tipoSeleccion;
+    }
+
+    public String getTipoCruza() {
+        return tipoCruza;
+    }
+
+    public String getTipoMutacion() {
+        return tipoMutacion;
+    }
+
+    public int getTamanoPoblacion() {
+        return tamanoPoblacion;
+    }
+
+    public int getNumeroGeneraciones() {
+        return numeroGeneraciones;
+    }
+
+    public double getProbabilidadCruza() {
+        return probabilidadCruza;
+    }
+
+    public double getProbabilidadMutacion() {
+        return probabilidadMutacion;
+    }
+
+    public int getPesoMaximoPorViaje() {
+        return pesoMaximoPorViaje;
+    }
+
+    public double getCapacidadVolumenCaja() {
+        return capacidadVolumenCaja;
+    }
+
+    public int getParalelismo() {
+        return paralelismo;
+    }
+
+    /**
+     * Define cuántos hilos evalúan la población en paralelo. Con 1 la evaluación es secuencial.
+     * El resultado no cambia con este valor porque cada evaluación es independiente.
+     */
+    public void setParalelismo(int paralelismo) {
+        this.paralelismo = paralelismo;
+    }
+
+    public int getTamanoCacheFitness() {
+        return tamanoCacheFitness;
+    }
+
+    /**
+     * Define cuántas secuencias de genes recuerda la caché de fitness. Con 0 se desactiva.
+     */
+    public void setTamanoCacheFitness(int tamanoCacheFitness) {
+        this.tamanoCacheFitness = tamanoCacheFitness;
+    }
+
+    public boolean isEvaluacionIncremental() {
+        return evaluacionIncremental;
+    }
+
+    /**
+     * Habilita la reevaluación incremental: los hijos mutados por intercambio se decodifican
+     * sólo desde el viaje que contiene el primer gen modificado.
+     */
+    public void setEvaluacionIncremental(boolean evaluacionIncremental) {
+        this.evaluacionIncremental = evaluacionIncremental;
+    }
+
+    public int getNumeroIslas() {
+        return numeroIslas;
+    }
+
+    /**
+     * Define cuántas subpoblaciones evolucionan en paralelo, cada una en su propio hilo y con
+     * el tamaño de población configurado. Con 1 se ejecuta el algoritmo panmíctico clásico.
+     */
+    public void setNumeroIslas(int numeroIslas) {
+        this.numeroIslas = numeroIslas;
+    }
+
+    public int getIntervaloMigracion() {
+        return intervaloMigracion;
+    }
+
+    /** Define cada cuántas generaciones las islas intercambian individuos. */
+    public void setIntervaloMigracion(int intervaloMigracion) {
+        this.intervaloMigracion = intervaloMigracion;
+    }
+
+    public int getCantidadMigrantes() {
+        return cantidadMigrantes;
+    }
+
+    /** Define cuántos de los mejores individuos envía cada isla a la siguiente del anillo. */
+    public void setCantidadMigrantes(int cantidadMigrantes) {
+        this.cantidadMigrantes = cantidadMigrantes;
+    }
+
+    public boolean isIslasHeterogeneas() {
+        return islasHeterogeneas;
+    }
+
+    /**
+     * Con true cada isla combina operadores distintos a partir de los configurados;
+     * con false todas usan la misma selección, cruza y mutación.
+     */
+    public void setIslasHeterogeneas(boolean islasHeterogeneas) {
+        this.islasHeterogeneas = islasHeterogeneas;
+    }
+
+    public int getGeneracionesSinMejora() {
+        return generacionesSinMejora;
+    }
+
+    /**
+     * Detiene la evolución si la mejor aptitud no mejora durante esta cantidad de generaciones.
+     * Con 0 no se aplica.
+     */
+    public void setGeneracionesSinMejora(int generacionesSinMejora) {
+        this.generacionesSinMejora = generacionesSinMejora;
+    }
+
+    public double getFitnessObjetivo() {
+        return fitnessObjetivo;
+    }
+
+    /** Detiene la evolución al alcanzar esta aptitud. Con 0 no se aplica. */
+    public void setFitnessObjetivo(double fitnessObjetivo) {
+        this.fitnessObjetivo = fitnessObjetivo;
+    }
+
+    public boolean isDetenerEnMinimoTeorico() {
+        return detenerEnMinimoTeorico;
+    }
+
+    /**
+     * Detiene la evolución cuando la mejor solución usa los viajes mínimos teóricos del pedido;
+     * a partir de ahí ninguna otra secuencia puede obtener mejor aptitud.
+     */
+    public void setDetenerEnMinimoTeorico(boolean detenerEnMinimoTeorico) {
+        this.detenerEnMinimoTeorico = detenerEnMinimoTeorico;
+    }
+
+    public long getTiempoMaximoMs() {
+        return tiempoMaximoMs;
+    }
+
+    /**
+     * Tiempo máximo de evolución en milisegundos, medido desde el inicio de la ejecución.
+     * La generación en curso se completa antes de detenerse. Con 0 no hay límite.
+     */
+    public void setTiempoMaximoMs(long tiempoMaximoMs) {
+        this.tiempoMaximoMs = tiempoMaximoMs;
+    }
+
+    public int getUnidadesPorLote() {
+        return unidadesPorLote;
+    }
+
+    /**
+     * Unidades de un mismo producto que representa cada gen. Con 1 cada unidad es un gen; con
+     * valores mayores el cromosoma tiene un gen por lote y su longitud deja de crecer con las
+     * cantidades del pedido. Un valor mayor que cualquier cantidad deja un gen por producto.
+     */
+    public void setUnidadesPorLote(int unidadesPorLote) {
+        this.unidadesPorLote = unidadesPorLote;
+    }
+
+    public String getTipoDecodificador() {
+        return tipoDecodificador;
+    }
+
+    /**
+     * Estrategia que reparte la secuencia del cromosoma en viajes; ver
+     * {@link FabricaOperadores#TIPOS_DECODIFICADOR}. "Next Fit" es la decodificación original;
+     * "First Fit" y "Best Fit" también usan el lugar libre de viajes anteriores y desactivan la
+     * evaluación incremental.
+     */
+    public void setTipoDecodificador(String tipoDecodificador) {
+        this.tipoDecodificador = tipoDecodificador;
+    }
+
+    public String getTipoInicializacion() {
+        return tipoInicializacion;
+    }
+
+    /**
+     * Estrategia de población inicial; ver {@link FabricaOperadores#TIPOS_INICIALIZACION}.
+     * "Aleatoria" mezcla cada individuo por separado. Las demás siembran una fracción de la
+     * población con genes ordenados por peso o volumen decreciente, o agrupados según los viajes
+     * de first-fit decreciente, y completan el resto con mezclas aleatorias.
+     */
+    public void setTipoInicializacion(String tipoInicializacion) {
+        this.tipoInicializacion = tipoInicializacion;
+    }
+
+    public double getFraccionInicializacionHeuristica() {
+        return fraccionInicializacionHeuristica;
+    }
+
+    /** Fracción de la población inicial, entre 0 y 1, sembrada con la heurística configurada. */
+    public void setFraccionInicializacionHeuristica(double fraccionInicializacionHeuristica) {
+        this.fraccionInicializacionHeuristica = fraccionInicializacionHeuristica;
+    }
+
+    public Long getSemilla() {
+        return semilla;
+    }
+
+    /**
+     * Semilla maestra de la ejecución. Con la misma semilla y los mismos datos se obtiene el mismo
+     * resultado, salvo el tiempo medido y las corridas cortadas por tiempo máximo. Con
+     * {@code null}, el valor por defecto, cada ejecución usa una semilla distinta.
+     */
+    public void setSemilla(Long semilla) {
+        this.semilla = semilla;
+    }
+
+    /**
+     * @return flota configurada, o un único dron con {@code pesoMaximoPorViaje} y
+     *         {@code capacidadVolumenCaja} si no se definió una
+     */
+    public Flota getFlota() {
+        return flota != null ? flota : Flota.uniforme(pesoMaximoPorViaje, capacidadVolumenCaja);
+    }
+
+    /** @return true si se definió una flota; si no, todos los viajes usan el mismo dron. */
+    public boolean tieneFlota() {
+        return flota != null;
+    }
+
+    /**
+     * Flota con varios tipos de dron. Reemplaza a {@code pesoMaximoPorViaje} y
+     * {@code capacidadVolumenCaja}; con {@code null} se vuelve a usar un único dron.
+     */
+    public void setFlota(Flota flota) {
+        this.flota = flota;
+    }
+
+    public int getElitesBusquedaLocal() {
+        return elitesBusquedaLocal;
+    }
+
+    /**
+     * Cantidad de mejores individuos que refina la búsqueda local al final de cada generación,
+     * moviendo genes entre viajes. Con 0, el valor por defecto, no hay búsqueda local.
+     */
+    public void setElitesBusquedaLocal(int elitesBusquedaLocal) {
+        this.elitesBusquedaLocal = elitesBusquedaLocal;
+    }
+
+    public long getPresupuestoBusquedaLocalMs() {
+        return presupuestoBusquedaLocalMs;
+    }
+
+    /**
+     * Tiempo máximo en milisegundos de la búsqueda local en cada generación, compartido por todos
+     * los individuos refinados. Si se agota, la corrida deja de ser reproducible con la semilla.
+     */
+    public void setPresupuestoBusquedaLocalMs(long presupuestoBusquedaLocalMs) {
+        this.presupuestoBusquedaLocalMs = presupuestoBusquedaLocalMs;
+    }
+
+    public int getUnidadesBusquedaExacta() {
+        return unidadesBusquedaExacta;
+    }
+
+    /**
+     * Pedidos con hasta esta cantidad de unidades y un único tipo de dron se resuelven con
+     * {@link SolucionadorExacto} en lugar del algoritmo genético. Con 0 siempre se usa el algoritmo genético.
+     */
+    public void setUnidadesBusquedaExacta(int unidadesBusquedaExacta) {
+        this.unidadesBusquedaExacta = unidadesBusquedaExacta;
+    }
+
+    /**
+     * @return generador raíz del que se derivan, con {@link SplittableRandom#split()}, los
+     *         generadores de cada operador, isla y algoritmo
+     */
+    public SplittableRandom crearGeneradorRaiz() {
+        return semilla != null ? new SplittableRandom(semilla) : new SplittableRandom();
+    }
+
+    /**
+     * @return configuración independiente con los mismos valores, para ajustar una ejecución
+     *         sin afectar a las demás que comparten la original
+     */
+    public ConfiguracionAG copiar() {
+        ConfiguracionAG copia = new ConfiguracionAG(tipoSeleccion, tipoCruza, tipoMutacion, tamanoPoblacion,
+                numeroGeneraciones, probabilidadCruza, probabilidadMutacion, pesoMaximoPorViaje, capacidadVolumenCaja);
+        copia.paralelismo = paralelismo;
+        copia.tamanoCacheFitness = tamanoCacheFitness;
+        copia.evaluacionIncremental = evaluacionIncremental;
+        copia.numeroIslas = numeroIslas;
+        copia.intervaloMigracion = intervaloMigracion;
+        copia.cantidadMigrantes = cantidadMigrantes;
+        copia.islasHeterogeneas = islasHeterogeneas;
+        copia.generacionesSinMejora = generacionesSinMejora;
+        copia.fitnessObjetivo = fitnessObjetivo;
+        copia.detenerEnMinimoTeorico = detenerEnMinimoTeorico;
+        copia.tiempoMaximoMs = tiempoMaximoMs;
+        copia.unidadesPorLote = unidadesPorLote;
+        copia.tipoDecodificador = tipoDecodificador;
+        copia.tipoInicializacion = tipoInicializacion;
+        copia.fraccionInicializacionHeuristica = fraccionInicializacionHeuristica;
+        copia.semilla = semilla;
+        copia.flota = flota;
+        copia.elitesBusquedaLocal = elitesBusquedaLocal;
+        copia.presupuestoBusquedaLocalMs = presupuestoBusquedaLocalMs;
+        copia.unidadesBusquedaExacta = unidadesBusquedaExacta;
+        return copia;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ConfiguracionAG[seleccion=%s, cruza=%s, mutacion=%s, poblacion=%d, generaciones=%d, pCruza=%.2f, pMutacion=%.2f, paralelismo=%d, islas=%d, decodificador=%s]",
+                tipoSeleccion, tipoCruza, tipoMutacion, tamanoPoblacion, numeroGeneraciones, probabilidadCruza, probabilidadMutacion, paralelismo, numeroIslas, tipoDecodificador);
+    }
+}
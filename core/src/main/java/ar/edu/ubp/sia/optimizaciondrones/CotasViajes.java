@@ -0,0 +1,119 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Cotas inferiores de la cantidad de viajes de un pedido, vistas como un problema de
+ * empaquetado en el que cada unidad es un ítem indivisible y cada viaje un recipiente.
+ * <p>
+ * Por dimensión usa la cota L2 de Martello y Toth: para cada umbral α ≤ C/2 ningún ítem mayor
+ * que C - α comparte viaje con uno de al menos α, y dos ítems mayores que C/2 nunca comparten
+ * viaje; los ítems medianos sólo pueden ocupar el lugar libre que dejan los grandes. Nunca es
+ * menor que redondear hacia arriba el total sobre la capacidad.
+ * <p>
+ * La cota combinada aplica L2 a tamaños sustitutos λ·peso/P + (1 - λ)·volumen/V con capacidad 1:
+ * todo viaje que respeta ambos límites respeta el sustituto, y con λ intermedios cuenta juntos
+ * a los ítems grandes en una dimensión y a los grandes en la otra.
+ * <p>
+ * Los ítems se agrupan por tamaño con su cantidad, así el costo depende de los tamaños
+ * distintos y no de las unidades. Ante empates por redondeo los ítems se clasifican del lado que
+ * achica la cota, para que nunca supere el óptimo.
+ */
+final class CotasViajes {
+
+    private static final double TOLERANCIA = 1e-9;
+    private static final int PASOS_SUSTITUTOS = 10;
+
+    private CotasViajes() {
+    }
+
+    /**
+     * @param tamano tamaño de cada grupo de ítems
+     * @param cantidad ítems de cada grupo
+     * @param capacidad capacidad de un viaje
+     * @return cota L2 de viajes, o 0 si la capacidad no es positiva
+     */
+    static int martelloToth(double[] tamano, long[] cantidad, double capacidad) {
+        if (capacidad <= 0) {
+            return 0;
+        }
+
+        Integer[] orden = new Integer[tamano.length];
+        int grupos = 0;
+        for (int i = 0; i < tamano.length; i++) {
+            if (cantidad[i] > 0 && tamano[i] > 0) {
+                orden[grupos++] = i;
+            }
+        }
+        if (grupos == 0) {
+            return 0;
+        }
+        Arrays.sort(orden, 0, grupos, Comparator.comparingDouble(i -> tamano[i]));
+
+        double[] valores = new double[grupos];
+        long[] cantidadesAcumuladas = new long[grupos + 1];
+        double[] sumasAcumuladas = new double[grupos + 1];
+        for (int k = 0; k < grupos; k++) {
+            valores[k] = tamano[orden[k]];
+            cantidadesAcumuladas[k + 1] = cantidadesAcumuladas[k] + cantidad[orden[k]];
+            sumasAcumuladas[k + 1] = sumasAcumuladas[k] + valores[k] * cantidad[orden[k]];
+        }
+
+        double margen = capacidad * TOLERANCIA;
+        int inicioGrandes = primeroMayorQue(valores, capacidad / 2 + margen);
+        long cota = EvaluadorFitness.viajesMinimos(sumasAcumuladas[grupos], capacidad);
+        // α = 0 y cada tamaño distinto hasta C/2: entre dos tamaños la cota no cambia.
+        for (int inicioMedianos = 0; inicioMedianos <= inicioGrandes; inicioMedianos++) {
+            if (inicioMedianos > 0 && inicioMedianos < inicioGrandes
+                    && valores[inicioMedianos] == valores[inicioMedianos - 1]) {
+                continue;
+            }
+            double alfa = inicioMedianos < inicioGrandes ? valores[inicioMedianos] : capacidad / 2;
+            int inicioExclusivos = Math.max(inicioGrandes, primeroMayorQue(valores, capacidad - alfa + margen));
+
+            long grandes = cantidadesAcumuladas[grupos] - cantidadesAcumuladas[inicioGrandes];
+            long compartibles = cantidadesAcumuladas[inicioExclusivos] - cantidadesAcumuladas[inicioGrandes];
+            double libre = compartibles * capacidad
+                    - (sumasAcumuladas[inicioExclusivos] - sumasAcumuladas[inicioGrandes]);
+            double medianos = sumasAcumuladas[inicioGrandes] - sumasAcumuladas[inicioMedianos];
+            cota = Math.max(cota, grandes + EvaluadorFitness.viajesMinimos(medianos - libre, capacidad));
+        }
+        return (int) Math.min(cota, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return mayor cota L2 sobre tamaños sustitutos que combinan peso y volumen, o la de la
+     *         dimensión con capacidad positiva si la otra no limita
+     */
+    static int combinada(double[] peso, double[] volumen, long[] cantidad, double pesoMaximo, double volumenMaximo) {
+        if (pesoMaximo <= 0 || volumenMaximo <= 0) {
+            return Math.max(martelloToth(peso, cantidad, pesoMaximo), martelloToth(volumen, cantidad, volumenMaximo));
+        }
+        double[] sustituto = new double[peso.length];
+        int cota = 0;
+        for (int paso = 0; paso <= PASOS_SUSTITUTOS; paso++) {
+            double lambda = (double) paso / PASOS_SUSTITUTOS;
+            for (int i = 0; i < peso.length; i++) {
+                sustituto[i] = lambda * peso[i] / pesoMaximo + (1 - lambda) * volumen[i] / volumenMaximo;
+            }
+            cota = Math.max(cota, martelloToth(sustituto, cantidad, 1.0));
+        }
+        return cota;
+    }
+
+    /** @return índice del primer valor estrictamente mayor que el límite en un arreglo ascendente */
+    private static int primeroMayorQue(double[] valores, double limite) {
+        int desde = 0;
+        int hasta = valores.length;
+        while (desde < hasta) {
+            int medio = (desde + hasta) >>> 1;
+            if (valores[medio] > limite) {
+                hasta = medio;
+            } else {
+                desde = medio + 1;
+            }
+        }
+        return desde;
+    }
+}
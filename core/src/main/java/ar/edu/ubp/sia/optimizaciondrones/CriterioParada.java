@@ -0,0 +1,40 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+/**
+ * Motivo por el que terminó la evolución, según los criterios de {@link ConfiguracionAG}.
+ */
+public enum CriterioParada {
+
+    /** Se ejecutaron todas las generaciones configuradas. */
+    GENERACIONES("límite de generaciones"),
+    /** La mejor aptitud no mejoró durante {@code generacionesSinMejora} generaciones. */
+    ESTANCAMIENTO("aptitud sin mejora"),
+    /** Se alcanzó {@code fitnessObjetivo}. */
+    FITNESS_OBJETIVO("aptitud objetivo alcanzada"),
+    /** La mejor solución usa los viajes mínimos teóricos del pedido. */
+    MINIMO_TEORICO("viajes mínimos teóricos alcanzados"),
+    /** Se agotó {@code tiempoMaximoMs}. */
+    TIEMPO_MAXIMO("tiempo máximo agotado"),
+    /** La ejecución se canceló desde afuera o se interrumpió su hilo. */
+    CANCELADA("cancelada"),
+    /** {@link SolucionadorExacto} resolvió el pedido sin ejecutar la evolución. */
+    SOLUCION_EXACTA("solución exacta");
+
+    private final String descripcion;
+
+    CriterioParada(String descripcion) {
+        this.descripcion = descripcion;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+
+    /**
+     * @return true si la ejecución terminó por su propio criterio; false si la cortaron el
+     *         tiempo máximo o una cancelación, que dependen de la llamada y no del pedido
+     */
+    public boolean esCompleta() {
+        return this != TIEMPO_MAXIMO && this != CANCELADA;
+    }
+}
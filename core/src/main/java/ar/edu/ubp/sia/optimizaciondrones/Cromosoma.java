@@ -0,0 +1,233 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.util.Arrays;
+
+/**
+ * Modelo de cromosoma: mantiene secuencia de genes y valor de fitness asociado.
+ * <p>
+ * Un cromosoma puede tener sus propios genes o ser una vista sobre un tramo de un arreglo
+ * compartido, como los de {@link PoblacionBuffer}; en ese caso se reescribe con
+ * {@link #copiarDesde(Cromosoma)} o con la cruza en destino en lugar de crear instancias nuevas.
+ */
+public class Cromosoma implements Comparable<Cromosoma> {
+
+    /** Valor de {@link #getPrimeraPosicionModificada()} cuando no hubo cambios desde la última evaluación. */
+    static final int SIN_MODIFICACIONES = Integer.MAX_VALUE;
+
+    private final int[] genes;
+    private final int desplazamiento;
+    private final int longitud;
+    private double fitness;
+    private EstadoDecodificacion estadoDecodificacion;
+    private EstadoDecodificacion estadoLibre;
+    private int primeraPosicionModificada = SIN_MODIFICACIONES;
+    private int genesReemplazados;
+
+    /**
+     * Construye un cromosoma a partir de una copia defensiva del arreglo de genes.
+     *
+     * @param genes secuencia de genes del individuo
+     */
+    public Cromosoma(int[] genes) {
+        this(genes.clone(), 0, genes.length);
+    }
+
+    /**
+     * Crea una vista sin copia sobre {@code longitud} genes de {@code buffer} a partir de
+     * {@code desplazamiento}. Los cambios en el cromosoma se escriben en el buffer.
+     */
+    Cromosoma(int[] buffer, int desplazamiento, int longitud) {
+        this.genes = buffer;
+        this.desplazamiento = desplazamiento;
+        this.longitud = longitud;
+        this.fitness = 0;
+    }
+
+    /** @return copia defensiva de los genes del cromosoma. */
+    public int[] getGenes() {
+        return Arrays.copyOfRange(genes, desplazamiento, desplazamiento + longitud);
+    }
+
+    /** @return gen en la posición solicitada. */
+    public int getGene(int index) {
+        return genes[desplazamiento + index];
+    }
+
+    /**
+     * Actualiza un gen y reinicia el fitness para forzar recálculo posterior.
+     */
+    public void setGene(int index, int valor) {
+        int posicion = desplazamiento + index;
+        if (genes[posicion] != valor) {
+            registrarModificacion(index);
+            genesReemplazados++;
+        }
+        genes[posicion] = valor;
+        fitness = 0;
+    }
+
+    /**
+     * Intercambia dos genes preservando la cantidad de cada uno y reinicia el fitness.
+     * Al no alterar el multiconjunto de genes permite reevaluar sólo desde la primera posición tocada.
+     */
+    public void intercambiarGenes(int index1, int index2) {
+        int posicion1 = desplazamiento + index1;
+        int posicion2 = desplazamiento + index2;
+        if (genes[posicion1] != genes[posicion2]) {
+            registrarModificacion(Math.min(index1, index2));
+            int temp = genes[posicion1];
+            genes[posicion1] = genes[posicion2];
+            genes[posicion2] = temp;
+        }
+        fitness = 0;
+    }
+
+    /**
+     * Sobrescribe este cromosoma con los genes, el fitness y el estado de decodificación de otro
+     * de la misma longitud. Reutiliza el estado propio, por lo que no reserva memoria en régimen.
+     */
+    public void copiarDesde(Cromosoma origen) {
+        System.arraycopy(origen.genes, origen.desplazamiento, genes, desplazamiento, longitud);
+        if (origen.estadoDecodificacion == null) {
+            invalidarDecodificacion();
+            fitness = origen.fitness;
+            return;
+        }
+        fitness = origen.fitness;
+        EstadoDecodificacion destino = estadoDecodificacion != null ? estadoDecodificacion : reservarEstado();
+        destino.copiarDesde(origen.estadoDecodificacion);
+        estadoDecodificacion = destino;
+        primeraPosicionModificada = origen.primeraPosicionModificada;
+        genesReemplazados = origen.genesReemplazados;
+    }
+
+    /**
+     * Copia {@code cantidad} genes de {@code origen} desde {@code desdeOrigen} hacia la posición
+     * {@code desde} de este cromosoma, sin registrar modificaciones: quien escribe genes en bloque
+     * debe llamar luego a {@link #invalidarDecodificacion()}.
+     */
+    void copiarGenes(int desde, Cromosoma origen, int desdeOrigen, int cantidad) {
+        System.arraycopy(origen.genes, origen.desplazamiento + desdeOrigen, genes, desplazamiento + desde, cantidad);
+    }
+
+    /** Reemplaza todos los genes por los recibidos y descarta la decodificación previa. */
+    void cargarGenes(int[] nuevosGenes) {
+        System.arraycopy(nuevosGenes, 0, genes, desplazamiento, longitud);
+        invalidarDecodificacion();
+    }
+
+    /** Escribe un gen sin registrar la modificación; ver {@link #copiarGenes}. */
+    void escribirGen(int index, int valor) {
+        genes[desplazamiento + index] = valor;
+    }
+
+    /**
+     * Descarta fitness y estado de decodificación tras reescribir los genes en bloque.
+     * El estado se conserva para reutilizarlo en la próxima decodificación completa.
+     */
+    void invalidarDecodificacion() {
+        if (estadoDecodificacion != null) {
+            estadoLibre = estadoDecodificacion;
+            estadoDecodificacion = null;
+        }
+        primeraPosicionModificada = SIN_MODIFICACIONES;
+        genesReemplazados = 0;
+        fitness = 0;
+    }
+
+    /** @return estado reciclado de una decodificación invalidada, o uno nuevo si no hay. */
+    EstadoDecodificacion reservarEstado() {
+        EstadoDecodificacion estado = estadoLibre != null ? estadoLibre : new EstadoDecodificacion();
+        estadoLibre = null;
+        return estado;
+    }
+
+    private void registrarModificacion(int index) {
+        if (index < primeraPosicionModificada) {
+            primeraPosicionModificada = index;
+        }
+    }
+
+    /** @return longitud del cromosoma. */
+    public int getLongitud() {
+        return longitud;
+    }
+
+    /** @return valor de fitness actual. */
+    public double getFitness() {
+        return fitness;
+    }
+
+    /** @param fitness nuevo valor de fitness calculado. */
+    public void setFitness(double fitness) {
+        this.fitness = fitness;
+    }
+
+    /**
+     * @return copia del cromosoma sin arrastrar fitness previo; conserva el estado de
+     * decodificación para que la copia pueda reevaluarse de forma incremental.
+     */
+    public Cromosoma clonar() {
+        Cromosoma copia = new Cromosoma(getGenes(), 0, longitud);
+        if (estadoDecodificacion != null) {
+            copia.estadoDecodificacion = estadoDecodificacion.copiar();
+            copia.primeraPosicionModificada = primeraPosicionModificada;
+            copia.genesReemplazados = genesReemplazados;
+        }
+        return copia;
+    }
+
+    /** @return estado de la última decodificación, o {@code null} si nunca se registró. */
+    EstadoDecodificacion getEstadoDecodificacion() {
+        return estadoDecodificacion;
+    }
+
+    /** @return menor posición modificada desde la última evaluación. */
+    int getPrimeraPosicionModificada() {
+        return primeraPosicionModificada;
+    }
+
+    /** @return cantidad de genes reemplazados por otro valor desde la última evaluación. */
+    int getGenesReemplazados() {
+        return genesReemplazados;
+    }
+
+    /** Asocia el estado de decodificación vigente y descarta las modificaciones pendientes. */
+    void marcarEvaluado(EstadoDecodificacion estado) {
+        this.estadoDecodificacion = estado;
+        this.primeraPosicionModificada = SIN_MODIFICACIONES;
+        this.genesReemplazados = 0;
+    }
+
+    @Override
+    public int compareTo(Cromosoma o) {
+        return Double.compare(o.fitness, this.fitness);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof Cromosoma)) return false;
+        Cromosoma otro = (Cromosoma) obj;
+        return Arrays.equals(this.genes, this.desplazamiento, this.desplazamiento + this.longitud,
+                otro.genes, otro.desplazamiento, otro.desplazamiento + otro.longitud);
+    }
+
+    /** Mismo valor que {@link Arrays#hashCode(int[])} sobre los genes, sin copiarlos. */
+    @Override
+    public int hashCode() {
+        int resultado = 1;
+        for (int i = desplazamiento, fin = desplazamiento + longitud; i < fin; i++) {
+            resultado = 31 * resultado + genes[i];
+        }
+        return resultado;
+    }
+
+    @Override
+    public String toString() {
+        return "Cromosoma{" +
+                "fitness=" + fitness +
+                ", genes=" + Arrays.toString(getGenes()) +
+                '}';
+    }
+}
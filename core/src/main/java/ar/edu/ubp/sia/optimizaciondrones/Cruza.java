@@ -0,0 +1,19 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+/**
+ * Interface para operador de cruza
+ */
+public interface Cruza {
+    Cromosoma[] cruzar(Cromosoma padre1, Cromosoma padre2);
+
+    /**
+     * Variante que escribe los hijos sobre cromosomas existentes, como los del buffer de la
+     * generación siguiente. Los hijos deben ser instancias distintas de los padres.
+     * La implementación por defecto delega en {@link #cruzar(Cromosoma, Cromosoma)} y copia.
+     */
+    default void cruzar(Cromosoma padre1, Cromosoma padre2, Cromosoma hijo1, Cromosoma hijo2) {
+        Cromosoma[] hijos = cruzar(padre1, padre2);
+        hijo1.copiarDesde(hijos[0]);
+        hijo2.copiarDesde(hijos[1]);
+    }
+}
@@ -0,0 +1,142 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Cruza de ciclos (CX) adaptada a genes repetidos. La k-ésima copia de un gen en un padre se
+ * empareja con la k-ésima copia del mismo gen en el otro, lo que convierte a los padres en
+ * permutaciones de las mismas etiquetas y permite seguir los ciclos de posiciones como en la
+ * cruza de ciclos clásica. Cada ciclo se hereda completo de uno u otro padre, elegido al azar,
+ * así que cada gen queda en una posición que ocupaba en algún padre y los hijos conservan el
+ * multiconjunto de genes sin pasos de reparación.
+ * <p>
+ * Si los padres no tienen los mismos genes los ciclos no están definidos y los hijos son copias
+ * de los padres. Cuesta O(longitud + genes distintos) con arreglos reutilizados entre llamadas,
+ * por lo que una instancia no debe compartirse entre hilos.
+ */
+public class CruzaCiclos implements Cruza {
+
+    private final RandomGenerator random;
+    private int[] conteo = new int[0];
+    private int[] inicioGen = new int[0];
+    private int[] posicionEnPadre1 = new int[0];
+    private int[] siguientePosicion = new int[0];
+    private boolean[] visitada = new boolean[0];
+    private int genMinimo;
+    private int rangoGenes;
+
+    public CruzaCiclos() {
+        this(new SplittableRandom());
+    }
+
+    /** @param random generador de números aleatorios del operador */
+    public CruzaCiclos(RandomGenerator random) {
+        this.random = random;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Cromosoma[] cruzar(Cromosoma padre1, Cromosoma padre2) {
+        int longitud = padre1.getLongitud();
+        Cromosoma hijo1 = new Cromosoma(new int[longitud]);
+        Cromosoma hijo2 = new Cromosoma(new int[longitud]);
+        cruzar(padre1, padre2, hijo1, hijo2);
+        return new Cromosoma[]{hijo1, hijo2};
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void cruzar(Cromosoma padre1, Cromosoma padre2, Cromosoma hijo1, Cromosoma hijo2) {
+        int longitud = padre1.getLongitud();
+        prepararArreglos(padre1, padre2);
+        if (!emparejarCopias(padre1, padre2)) {
+            hijo1.copiarDesde(padre1);
+            hijo2.copiarDesde(padre2);
+            return;
+        }
+
+        Arrays.fill(visitada, 0, longitud, false);
+        for (int inicio = 0; inicio < longitud; inicio++) {
+            if (visitada[inicio]) {
+                continue;
+            }
+            boolean intercambiar = random.nextBoolean();
+            Cromosoma origen1 = intercambiar ? padre2 : padre1;
+            Cromosoma origen2 = intercambiar ? padre1 : padre2;
+            int posicion = inicio;
+            do {
+                visitada[posicion] = true;
+                hijo1.escribirGen(posicion, origen1.getGene(posicion));
+                hijo2.escribirGen(posicion, origen2.getGene(posicion));
+                posicion = siguientePosicion[posicion];
+            } while (posicion != inicio);
+        }
+        hijo1.invalidarDecodificacion();
+        hijo2.invalidarDecodificacion();
+    }
+
+    /** Dimensiona los arreglos para la longitud y el rango de valores de gen de ambos padres. */
+    private void prepararArreglos(Cromosoma padre1, Cromosoma padre2) {
+        int longitud = padre1.getLongitud();
+        int minimo = Integer.MAX_VALUE;
+        int maximo = Integer.MIN_VALUE;
+        for (int i = 0; i < longitud; i++) {
+            minimo = Math.min(minimo, Math.min(padre1.getGene(i), padre2.getGene(i)));
+            maximo = Math.max(maximo, Math.max(padre1.getGene(i), padre2.getGene(i)));
+        }
+        genMinimo = minimo;
+        rangoGenes = Math.max(0, maximo - minimo + 1);
+        if (conteo.length < rangoGenes) {
+            conteo = new int[rangoGenes];
+            inicioGen = new int[rangoGenes];
+        }
+        if (posicionEnPadre1.length < longitud) {
+            posicionEnPadre1 = new int[longitud];
+            siguientePosicion = new int[longitud];
+            visitada = new boolean[longitud];
+        }
+    }
+
+    /**
+     * Agrupa las posiciones de cada gen en el primer padre y, para cada posición del segundo,
+     * registra la posición del primero que tiene la copia emparejada del mismo gen.
+     *
+     * @return false si los padres no tienen las mismas cantidades de cada gen
+     */
+    private boolean emparejarCopias(Cromosoma padre1, Cromosoma padre2) {
+        int longitud = padre1.getLongitud();
+        Arrays.fill(conteo, 0, rangoGenes, 0);
+        for (int i = 0; i < longitud; i++) {
+            conteo[padre1.getGene(i) - genMinimo]++;
+        }
+        for (int i = 0; i < longitud; i++) {
+            if (--conteo[padre2.getGene(i) - genMinimo] < 0) {
+                return false;
+            }
+        }
+
+        // Con las mismas cantidades los conteos volvieron a cero y se rearman por grupo.
+        for (int i = 0; i < longitud; i++) {
+            conteo[padre1.getGene(i) - genMinimo]++;
+        }
+        int acumulado = 0;
+        for (int indice = 0; indice < rangoGenes; indice++) {
+            inicioGen[indice] = acumulado;
+            acumulado += conteo[indice];
+            conteo[indice] = 0;
+        }
+        for (int i = 0; i < longitud; i++) {
+            int indice = padre1.getGene(i) - genMinimo;
+            posicionEnPadre1[inicioGen[indice] + conteo[indice]++] = i;
+        }
+
+        Arrays.fill(conteo, 0, rangoGenes, 0);
+        for (int i = 0; i < longitud; i++) {
+            int indice = padre2.getGene(i) - genMinimo;
+            siguientePosicion[i] = posicionEnPadre1[inicioGen[indice] + conteo[indice]++];
+        }
+        return true;
+    }
+}
@@ -0,0 +1,124 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/** Cruza de dos puntos con corrección para mantener cardinalidad de genes. */
+public class CruzaDosPuntos implements Cruza {
+
+    private static final int GEN_VACIO = -1;
+
+    private final RandomGenerator random;
+    private int[] cantidadMaxima = new int[0];
+    private int[] conteoActual = new int[0];
+    private int genMinimo;
+    private int rangoGenes;
+
+    public CruzaDosPuntos() {
+        this(new SplittableRandom());
+    }
+
+    /** @param random generador de números aleatorios del operador */
+    public CruzaDosPuntos(RandomGenerator random) {
+        this.random = random;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Cromosoma[] cruzar(Cromosoma padre1, Cromosoma padre2) {
+        int longitud = padre1.getLongitud();
+        Cromosoma hijo1 = new Cromosoma(new int[longitud]);
+        Cromosoma hijo2 = new Cromosoma(new int[longitud]);
+        cruzar(padre1, padre2, hijo1, hijo2);
+        return new Cromosoma[]{hijo1, hijo2};
+    }
+
+    /**
+     * {@inheritDoc}
+     * Los conteos por gen usan arreglos reutilizados entre llamadas, por lo que una instancia
+     * no debe compartirse entre hilos.
+     */
+    @Override
+    public void cruzar(Cromosoma padre1, Cromosoma padre2, Cromosoma hijo1, Cromosoma hijo2) {
+        int longitud = padre1.getLongitud();
+
+        if (longitud <= 2) {
+            hijo1.copiarDesde(padre1);
+            hijo2.copiarDesde(padre2);
+            return;
+        }
+
+        int punto1 = random.nextInt(longitud - 1);
+        int punto2 = random.nextInt(longitud - punto1 - 1) + punto1 + 1;
+
+        hijo1.copiarGenes(punto1, padre2, punto1, punto2 - punto1);
+        hijo2.copiarGenes(punto1, padre1, punto1, punto2 - punto1);
+
+        prepararConteos(padre1, padre2);
+        rellenarConCantidades(hijo1, padre1, padre2, punto1, punto2);
+        rellenarConCantidades(hijo2, padre2, padre1, punto1, punto2);
+
+        hijo1.invalidarDecodificacion();
+        hijo2.invalidarDecodificacion();
+    }
+
+    /** Dimensiona los conteos para el rango de valores de gen presente en ambos padres. */
+    private void prepararConteos(Cromosoma padre1, Cromosoma padre2) {
+        int minimo = Integer.MAX_VALUE;
+        int maximo = Integer.MIN_VALUE;
+        for (int i = 0, longitud = padre1.getLongitud(); i < longitud; i++) {
+            minimo = Math.min(minimo, Math.min(padre1.getGene(i), padre2.getGene(i)));
+            maximo = Math.max(maximo, Math.max(padre1.getGene(i), padre2.getGene(i)));
+        }
+        genMinimo = minimo;
+        rangoGenes = maximo - minimo + 1;
+        if (cantidadMaxima.length < rangoGenes) {
+            cantidadMaxima = new int[rangoGenes];
+            conteoActual = new int[rangoGenes];
+        }
+    }
+
+    /**
+     * Completa las posiciones fuera del tramo con los genes del padre en orden,
+     * sin superar la cantidad de cada gen que tiene el otro padre.
+     */
+    private void rellenarConCantidades(Cromosoma hijo, Cromosoma padre, Cromosoma otroPadre, int punto1, int punto2) {
+        int longitud = hijo.getLongitud();
+        Arrays.fill(cantidadMaxima, 0, rangoGenes, 0);
+        Arrays.fill(conteoActual, 0, rangoGenes, 0);
+        for (int i = 0; i < longitud; i++) {
+            cantidadMaxima[otroPadre.getGene(i) - genMinimo]++;
+        }
+        for (int i = punto1; i < punto2; i++) {
+            conteoActual[hijo.getGene(i) - genMinimo]++;
+        }
+
+        int idx = 0;
+        for (int i = 0; i < longitud; i++) {
+            int gen = padre.getGene(i);
+            int indice = gen - genMinimo;
+            if (conteoActual[indice] >= cantidadMaxima[indice]) {
+                continue;
+            }
+
+            if (idx == punto1) {
+                idx = punto2;
+            }
+            if (idx >= longitud) {
+                throw new IllegalStateException("No hay posición libre para insertar gen");
+            }
+
+            hijo.escribirGen(idx++, gen);
+            conteoActual[indice]++;
+        }
+
+        for (; idx < longitud; idx++) {
+            if (idx == punto1) {
+                idx = punto2 - 1;
+            } else {
+                hijo.escribirGen(idx, GEN_VACIO);
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Cruza de orden (OX) adaptada a genes repetidos. Cada hijo conserva un tramo de un padre en
+ * las mismas posiciones y completa el resto, a partir del final del tramo, con los genes del
+ * otro padre en su orden, tomando de cada gen sólo las copias que le faltan para igualar al
+ * padre del tramo. El hijo queda con el mismo multiconjunto de genes sin pasos de reparación.
+ * <p>
+ * Si los padres no tienen los mismos genes, las copias que el otro padre no aporta se toman del
+ * propio padre, en su orden. Cuesta O(longitud + genes distintos) con conteos en arreglos
+ * reutilizados entre llamadas, por lo que una instancia no debe compartirse entre hilos.
+ */
+public class CruzaOrden implements Cruza {
+
+    private final RandomGenerator random;
+    private int[] faltantes = new int[0];
+    private int genMinimo;
+    private int rangoGenes;
+
+    public CruzaOrden() {
+        this(new SplittableRandom());
+    }
+
+    /** @param random generador de números aleatorios del operador */
+    public CruzaOrden(RandomGenerator random) {
+        this.random = random;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Cromosoma[] cruzar(Cromosoma padre1, Cromosoma padre2) {
+        int longitud = padre1.getLongitud();
+        Cromosoma hijo1 = new Cromosoma(new int[longitud]);
+        Cromosoma hijo2 = new Cromosoma(new int[longitud]);
+        cruzar(padre1, padre2, hijo1, hijo2);
+        return new Cromosoma[]{hijo1, hijo2};
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void cruzar(Cromosoma padre1, Cromosoma padre2, Cromosoma hijo1, Cromosoma hijo2) {
+        int longitud = padre1.getLongitud();
+        if (longitud <= 2) {
+            hijo1.copiarDesde(padre1);
+            hijo2.copiarDesde(padre2);
+            return;
+        }
+
+        int punto1 = random.nextInt(longitud - 1);
+        int punto2 = random.nextInt(longitud - punto1 - 1) + punto1 + 1;
+
+        prepararConteos(padre1, padre2);
+        cruzarOrden(hijo1, padre1, padre2, punto1, punto2);
+        cruzarOrden(hijo2, padre2, padre1, punto1, punto2);
+    }
+
+    /** Dimensiona los conteos para el rango de valores de gen presente en ambos padres. */
+    private void prepararConteos(Cromosoma padre1, Cromosoma padre2) {
+        int minimo = Integer.MAX_VALUE;
+        int maximo = Integer.MIN_VALUE;
+        for (int i = 0, longitud = padre1.getLongitud(); i < longitud; i++) {
+            minimo = Math.min(minimo, Math.min(padre1.getGene(i), padre2.getGene(i)));
+            maximo = Math.max(maximo, Math.max(padre1.getGene(i), padre2.getGene(i)));
+        }
+        genMinimo = minimo;
+        rangoGenes = maximo - minimo + 1;
+        if (faltantes.length < rangoGenes) {
+            faltantes = new int[rangoGenes];
+        }
+    }
+
+    /**
+     * Copia el tramo [punto1, punto2) de {@code padre} y completa las demás posiciones, en orden
+     * circular desde {@code punto2}, con los genes de {@code otroPadre} que todavía faltan.
+     */
+    private void cruzarOrden(Cromosoma hijo, Cromosoma padre, Cromosoma otroPadre, int punto1, int punto2) {
+        int longitud = hijo.getLongitud();
+        hijo.copiarGenes(punto1, padre, punto1, punto2 - punto1);
+
+        Arrays.fill(faltantes, 0, rangoGenes, 0);
+        for (int i = punto2; i != punto1; i = siguiente(i, longitud)) {
+            faltantes[padre.getGene(i) - genMinimo]++;
+        }
+
+        int destino = punto2;
+        for (int k = 0, i = punto2; k < longitud && destino != punto1; k++, i = siguiente(i, longitud)) {
+            destino = escribirSiFalta(hijo, otroPadre.getGene(i), destino, longitud);
+        }
+        // Sólo con padres de distinto multiconjunto quedan posiciones libres.
+        for (int i = punto2; destino != punto1; i = siguiente(i, longitud)) {
+            destino = escribirSiFalta(hijo, padre.getGene(i), destino, longitud);
+        }
+        hijo.invalidarDecodificacion();
+    }
+
+    /** Escribe el gen en {@code destino} si al hijo le falta una copia y devuelve la próxima posición libre. */
+    private int escribirSiFalta(Cromosoma hijo, int gen, int destino, int longitud) {
+        int indice = gen - genMinimo;
+        if (faltantes[indice] == 0) {
+            return destino;
+        }
+        faltantes[indice]--;
+        hijo.escribirGen(destino, gen);
+        return siguiente(destino, longitud);
+    }
+
+    private static int siguiente(int posicion, int longitud) {
+        return posicion + 1 == longitud ? 0 : posicion + 1;
+    }
+}
@@ -0,0 +1,51 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/** Implementación de cruza de un punto para cromosomas de igual longitud. */
+public class CruzaUnPunto implements Cruza {
+
+    private final RandomGenerator random;
+
+    public CruzaUnPunto() {
+        this(new SplittableRandom());
+    }
+
+    /** @param random generador de números aleatorios del operador */
+    public CruzaUnPunto(RandomGenerator random) {
+        this.random = random;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Cromosoma[] cruzar(Cromosoma padre1, Cromosoma padre2) {
+        int longitud = padre1.getLongitud();
+        Cromosoma hijo1 = new Cromosoma(new int[longitud]);
+        Cromosoma hijo2 = new Cromosoma(new int[longitud]);
+        cruzar(padre1, padre2, hijo1, hijo2);
+        return new Cromosoma[]{hijo1, hijo2};
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void cruzar(Cromosoma padre1, Cromosoma padre2, Cromosoma hijo1, Cromosoma hijo2) {
+        int longitud = padre1.getLongitud();
+
+        if (longitud < 2) {
+            hijo1.copiarDesde(padre1);
+            hijo2.copiarDesde(padre2);
+            return;
+        }
+
+        int punto = random.nextInt(longitud - 1) + 1;
+
+        hijo1.copiarGenes(0, padre1, 0, punto);
+        hijo1.copiarGenes(punto, padre2, punto, longitud - punto);
+        hijo2.copiarGenes(0, padre2, 0, punto);
+        hijo2.copiarGenes(punto, padre1, punto, longitud - punto);
+
+        hijo1.invalidarDecodificacion();
+        hijo2.invalidarDecodificacion();
+    }
+}
@@ -0,0 +1,122 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/** Cruza uniforme con ajuste posterior para preservar frecuencias de genes. */
+public class CruzaUniforme implements Cruza {
+
+    private final RandomGenerator random;
+    private int[] conteoEsperado = new int[0];
+    private int[] conteoActual = new int[0];
+    private int[] conteoCorregido = new int[0];
+    private int genMinimo;
+    private int rangoGenes;
+
+    public CruzaUniforme() {
+        this(new SplittableRandom());
+    }
+
+    /** @param random generador de números aleatorios del operador */
+    public CruzaUniforme(RandomGenerator random) {
+        this.random = random;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Cromosoma[] cruzar(Cromosoma padre1, Cromosoma padre2) {
+        int longitud = padre1.getLongitud();
+        Cromosoma hijo1 = new Cromosoma(new int[longitud]);
+        Cromosoma hijo2 = new Cromosoma(new int[longitud]);
+        cruzar(padre1, padre2, hijo1, hijo2);
+        return new Cromosoma[]{hijo1, hijo2};
+    }
+
+    /**
+     * {@inheritDoc}
+     * Los conteos por gen usan arreglos reutilizados entre llamadas, por lo que una instancia
+     * no debe compartirse entre hilos.
+     */
+    @Override
+    public void cruzar(Cromosoma padre1, Cromosoma padre2, Cromosoma hijo1, Cromosoma hijo2) {
+        int longitud = padre1.getLongitud();
+        prepararConteos(padre1, padre2);
+
+        Arrays.fill(conteoEsperado, 0, rangoGenes, 0);
+        for (int i = 0; i < longitud; i++) {
+            conteoEsperado[padre1.getGene(i) - genMinimo]++;
+        }
+
+        for (int i = 0; i < longitud; i++) {
+            if (random.nextBoolean()) {
+                hijo1.escribirGen(i, padre1.getGene(i));
+                hijo2.escribirGen(i, padre2.getGene(i));
+            } else {
+                hijo1.escribirGen(i, padre2.getGene(i));
+                hijo2.escribirGen(i, padre1.getGene(i));
+            }
+        }
+
+        ajustarGenes(hijo1);
+        ajustarGenes(hijo2);
+    }
+
+    /** Dimensiona los conteos para el rango de valores de gen presente en ambos padres. */
+    private void prepararConteos(Cromosoma padre1, Cromosoma padre2) {
+        int minimo = Integer.MAX_VALUE;
+        int maximo = Integer.MIN_VALUE;
+        for (int i = 0, longitud = padre1.getLongitud(); i < longitud; i++) {
+            minimo = Math.min(minimo, Math.min(padre1.getGene(i), padre2.getGene(i)));
+            maximo = Math.max(maximo, Math.max(padre1.getGene(i), padre2.getGene(i)));
+        }
+        genMinimo = minimo;
+        rangoGenes = Math.max(0, maximo - minimo + 1);
+        if (conteoEsperado.length < rangoGenes) {
+            conteoEsperado = new int[rangoGenes];
+            conteoActual = new int[rangoGenes];
+            conteoCorregido = new int[rangoGenes];
+        }
+    }
+
+    /**
+     * Corrige excesos y faltantes sobre el propio hijo: descarta las primeras apariciones
+     * sobrantes de cada gen, agrega al final los faltantes y mezcla el resultado.
+     */
+    private void ajustarGenes(Cromosoma hijo) {
+        int longitud = hijo.getLongitud();
+        Arrays.fill(conteoActual, 0, rangoGenes, 0);
+        Arrays.fill(conteoCorregido, 0, rangoGenes, 0);
+        for (int i = 0; i < longitud; i++) {
+            conteoActual[hijo.getGene(i) - genMinimo]++;
+        }
+
+        int corregidos = 0;
+        for (int i = 0; i < longitud; i++) {
+            int gen = hijo.getGene(i);
+            int indice = gen - genMinimo;
+            int cantidadActual = conteoActual[indice];
+            int cantidadEsperada = conteoEsperado[indice];
+            if (cantidadEsperada > 0 && cantidadActual <= cantidadEsperada) {
+                hijo.escribirGen(corregidos++, gen);
+                conteoCorregido[indice]++;
+            } else if (cantidadActual > cantidadEsperada) {
+                conteoActual[indice] = cantidadActual - 1;
+            }
+        }
+
+        for (int indice = 0; indice < rangoGenes; indice++) {
+            for (int faltan = conteoEsperado[indice] - conteoCorregido[indice]; faltan > 0; faltan--) {
+                hijo.escribirGen(corregidos++, indice + genMinimo);
+            }
+        }
+
+        for (int i = corregidos - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = hijo.getGene(i);
+            hijo.escribirGen(i, hijo.getGene(j));
+            hijo.escribirGen(j, temp);
+        }
+        hijo.invalidarDecodificacion();
+    }
+}
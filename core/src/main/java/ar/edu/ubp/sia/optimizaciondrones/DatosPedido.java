@@ -0,0 +1,51 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Pedido leído fuera de la interfaz gráfica, con los mapas que espera {@link ServicioOptimizacion}.
+ */
+public class DatosPedido {
+
+    private final String nombre;
+    private final Map<String, Double> pesosProductos = new LinkedHashMap<>();
+    private final Map<String, Double> volumenProductos = new LinkedHashMap<>();
+    private final Map<String, Integer> pedido = new LinkedHashMap<>();
+
+    /** @param nombre identificador del pedido, usado para nombrar la salida. */
+    public DatosPedido(String nombre) {
+        this.nombre = nombre;
+    }
+
+    /**
+     * Agrega un producto con su peso unitario, volumen unitario y cantidad solicitada.
+     * Los productos con cantidad 0 quedan en el catálogo pero no forman parte del pedido.
+     */
+    public void agregarProducto(String producto, double peso, double volumen, int cantidad) {
+        if (pesosProductos.containsKey(producto)) {
+            throw new IllegalArgumentException("Producto duplicado: " + producto);
+        }
+        pesosProductos.put(producto, peso);
+        volumenProductos.put(producto, volumen);
+        if (cantidad > 0) {
+            pedido.put(producto, cantidad);
+        }
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public Map<String, Double> getPesosProductos() {
+        return pesosProductos;
+    }
+
+    public Map<String, Double> getVolumenProductos() {
+        return volumenProductos;
+    }
+
+    public Map<String, Integer> getPedido() {
+        return pedido;
+    }
+}
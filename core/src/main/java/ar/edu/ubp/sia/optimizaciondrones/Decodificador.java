@@ -0,0 +1,195 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.util.Arrays;
+
+/**
+ * Estrategia de colocación que decodifica la secuencia de genes en viajes.
+ * Recorre las unidades en el orden del cromosoma y decide en qué viaje abierto entra cada una;
+ * si ninguno la admite abre un viaje nuevo. Las subclases sólo definen cómo se elige el viaje.
+ * <p>
+ * Con una {@link Flota} de varios tipos un viaje admite una carga si entra en alguno de ellos;
+ * qué tipo lo vuela se decide después con {@link Flota#tipoParaCarga(double, double)}. Las
+ * capacidades se copian a arreglos propios en cada reinicio, sin crear objetos.
+ * <p>
+ * Guarda la carga de cada viaje en arreglos primitivos que se reutilizan entre decodificaciones,
+ * por lo que una instancia no debe usarse desde varios hilos a la vez.
+ */
+public abstract class Decodificador {
+
+    private static final int VIAJES_INICIALES = 16;
+
+    /**
+     * Holgura relativa a la capacidad para consultar índices que guardan el espacio libre como
+     * {@code maximo - carga}: esa resta puede quedar apenas por debajo de una unidad que sí entra.
+     * Los candidatos se confirman luego con {@link #admite(int, double, double)}.
+     */
+    protected static final double TOLERANCIA_INDICE = 1e-9;
+
+    /** Mayor capacidad de peso de la flota; cota para los índices de las estrategias. */
+    protected double pesoMaximo;
+    /** Mayor capacidad de volumen de la flota; cota para los índices de las estrategias. */
+    protected double volumenMaximo;
+    private double[] pesoMaximoTipo = new double[1];
+    private double[] volumenMaximoTipo = new double[1];
+    private int tipos;
+    protected double[] pesoViaje = new double[VIAJES_INICIALES];
+    protected double[] volumenViaje = new double[VIAJES_INICIALES];
+    protected int viajes;
+    private int ultimoViaje;
+
+    /** Descarta los viajes de la decodificación anterior y fija la capacidad de cada viaje. */
+    public void reiniciar(double pesoMaximo, double volumenMaximo) {
+        this.tipos = 1;
+        this.pesoMaximoTipo[0] = pesoMaximo;
+        this.volumenMaximoTipo[0] = volumenMaximo;
+        this.pesoMaximo = pesoMaximo;
+        this.volumenMaximo = volumenMaximo;
+        vaciar();
+    }
+
+    /** Descarta los viajes de la decodificación anterior; cada viaje admite lo que entra en algún dron. */
+    public void reiniciar(Flota flota) {
+        tipos = flota.getCantidadTipos();
+        if (tipos > pesoMaximoTipo.length) {
+            pesoMaximoTipo = new double[tipos];
+            volumenMaximoTipo = new double[tipos];
+        }
+        for (int tipo = 0; tipo < tipos; tipo++) {
+            pesoMaximoTipo[tipo] = flota.getPesoMaximo(tipo);
+            volumenMaximoTipo[tipo] = flota.getVolumenMaximo(tipo);
+        }
+        this.pesoMaximo = flota.getPesoMaximo();
+        this.volumenMaximo = flota.getVolumenMaximo();
+        vaciar();
+    }
+
+    private void vaciar() {
+        this.viajes = 0;
+        this.ultimoViaje = -1;
+        limpiarIndice();
+    }
+
+    /**
+     * Coloca hasta {@code unidades} unidades iguales en un mismo viaje: el que elige la estrategia
+     * o uno nuevo. Una unidad que excede la capacidad del dron viaja sola.
+     *
+     * @param tipo identificador no negativo compartido por todas las unidades con este peso y
+     *             volumen, por ejemplo el id de gen; las estrategias lo usan para recordar
+     *             búsquedas anteriores
+     * @return unidades colocadas, al menos una; el viaje queda en {@link #getUltimoViaje()}
+     */
+    public final int colocar(int tipo, double pesoUnitario, double volumenUnitario, int unidades) {
+        int viaje = buscarViaje(tipo, pesoUnitario, volumenUnitario);
+        int caben;
+        if (viaje < 0) {
+            viaje = abrirViaje();
+            caben = Math.max(1, unidadesQueCabenEnFlota(0.0, 0.0, pesoUnitario, volumenUnitario, unidades));
+        } else {
+            caben = unidadesQueCabenEnFlota(pesoViaje[viaje], volumenViaje[viaje], pesoUnitario, volumenUnitario,
+                    unidades);
+            quitarDelIndice(viaje);
+        }
+        pesoViaje[viaje] += pesoUnitario * caben;
+        volumenViaje[viaje] += volumenUnitario * caben;
+        agregarAlIndice(viaje);
+        ultimoViaje = viaje;
+        return caben;
+    }
+
+    /** @return viaje que recibió la última colocación, numerado desde 0 en orden de apertura. */
+    public int getUltimoViaje() {
+        return ultimoViaje;
+    }
+
+    public int getCantidadViajes() {
+        return viajes;
+    }
+
+    public double getPeso(int viaje) {
+        return pesoViaje[viaje];
+    }
+
+    public double getVolumen(int viaje) {
+        return volumenViaje[viaje];
+    }
+
+    /**
+     * Elige un viaje abierto donde entra al menos una unidad con el peso y volumen dados.
+     *
+     * @return índice del viaje, o -1 para abrir uno nuevo
+     */
+    protected abstract int buscarViaje(int tipo, double pesoUnitario, double volumenUnitario);
+
+    /** Vacía el índice de viajes de la estrategia, si tiene uno. */
+    protected void limpiarIndice() {
+    }
+
+    /** Se invoca antes de cambiar la carga de un viaje ya indexado. */
+    protected void quitarDelIndice(int viaje) {
+    }
+
+    /** Se invoca después de abrir o cargar un viaje. */
+    protected void agregarAlIndice(int viaje) {
+    }
+
+    /** @return true si una unidad más entra en el viaje, con la misma comparación que {@link #colocar}. */
+    protected final boolean admite(int viaje, double pesoUnitario, double volumenUnitario) {
+        double peso = pesoViaje[viaje] + pesoUnitario;
+        double volumen = volumenViaje[viaje] + volumenUnitario;
+        for (int tipo = 0; tipo < tipos; tipo++) {
+            if (peso <= pesoMaximoTipo[tipo] && volumen <= volumenMaximoTipo[tipo]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Mayor cantidad de unidades, hasta {@code tope}, que deja la carga dentro de algún tipo de dron. */
+    private int unidadesQueCabenEnFlota(double pesoActual, double volumenActual,
+                                        double pesoUnitario, double volumenUnitario, int tope) {
+        int caben = 0;
+        for (int tipo = 0; tipo < tipos && caben < tope; tipo++) {
+            caben = Math.max(caben, unidadesQueCaben(pesoActual, volumenActual, pesoUnitario, volumenUnitario,
+                    pesoMaximoTipo[tipo], volumenMaximoTipo[tipo], tope));
+        }
+        return caben;
+    }
+
+    private int abrirViaje() {
+        if (viajes == pesoViaje.length) {
+            pesoViaje = Arrays.copyOf(pesoViaje, viajes * 2);
+            volumenViaje = Arrays.copyOf(volumenViaje, viajes * 2);
+        }
+        pesoViaje[viajes] = 0.0;
+        volumenViaje[viajes] = 0.0;
+        return viajes++;
+    }
+
+    /**
+     * Cantidad de unidades iguales, hasta {@code tope}, que se pueden agregar a un viaje con la
+     * carga dada sin superar peso ni volumen máximos. Usa la misma comparación que la
+     * decodificación unidad por unidad: {@code carga + n * unitario <= maximo}.
+     */
+    public static int unidadesQueCaben(double pesoActual, double volumenActual,
+                                       double pesoUnitario, double volumenUnitario,
+                                       double pesoMaximo, double volumenMaximo, int tope) {
+        int caben = Math.min(unidadesQueCaben(pesoActual, pesoUnitario, pesoMaximo, tope),
+                unidadesQueCaben(volumenActual, volumenUnitario, volumenMaximo, tope));
+        return Math.max(caben, 0);
+    }
+
+    private static int unidadesQueCaben(double actual, double unitario, double maximo, int tope) {
+        if (unitario <= 0) {
+            return actual <= maximo ? tope : 0;
+        }
+        int caben = (int) Math.min(tope, Math.max(0.0, Math.floor((maximo - actual) / unitario)));
+        // El cociente puede quedar a una unidad del resultado exacto por redondeo.
+        while (caben > 0 && actual + caben * unitario > maximo) {
+            caben--;
+        }
+        while (caben < tope && actual + (caben + 1) * unitario <= maximo) {
+            caben++;
+        }
+        return caben;
+    }
+}
@@ -0,0 +1,175 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.util.Arrays;
+
+/**
+ * Best-fit: cada unidad va al viaje donde entra dejando el menor peso libre, así los viajes más
+ * cargados se completan primero y los más vacíos quedan disponibles para unidades grandes.
+ * <p>
+ * Los viajes abiertos forman un treap ordenado por peso libre (y por número de viaje ante
+ * empates) donde cada nodo guarda además el mayor volumen libre de su subárbol. La búsqueda
+ * recorre en orden los viajes con peso suficiente y descarta los subárboles sin volumen para la
+ * unidad, por lo que cada colocación cuesta O(log viajes) esperado. Los nodos son los propios
+ * números de viaje y viven en arreglos que se reutilizan entre decodificaciones.
+ */
+public class DecodificadorBestFit extends Decodificador {
+
+    private static final int NINGUNO = -1;
+
+    private int raiz = NINGUNO;
+    private int[] izquierdo = new int[16];
+    private int[] derecho = new int[16];
+    private double[] volumenLibreMaximo = new double[16];
+    private int izquierdoDividido;
+    private int derechoDividido;
+
+    @Override
+    protected void limpiarIndice() {
+        raiz = NINGUNO;
+    }
+
+    @Override
+    protected void quitarDelIndice(int viaje) {
+        raiz = eliminar(raiz, viaje);
+    }
+
+    @Override
+    protected void agregarAlIndice(int viaje) {
+        if (viaje >= izquierdo.length) {
+            int capacidad = Math.max(viaje + 1, 2 * izquierdo.length);
+            izquierdo = Arrays.copyOf(izquierdo, capacidad);
+            derecho = Arrays.copyOf(derecho, capacidad);
+            volumenLibreMaximo = Arrays.copyOf(volumenLibreMaximo, capacidad);
+        }
+        izquierdo[viaje] = NINGUNO;
+        derecho[viaje] = NINGUNO;
+        actualizar(viaje);
+        raiz = insertar(raiz, viaje);
+    }
+
+    @Override
+    protected int buscarViaje(int tipo, double pesoUnitario, double volumenUnitario) {
+        return buscar(raiz, pesoUnitario, volumenUnitario,
+                pesoUnitario - TOLERANCIA_INDICE * pesoMaximo,
+                volumenUnitario - TOLERANCIA_INDICE * volumenMaximo);
+    }
+
+    /** Primer viaje en orden del subárbol con peso libre suficiente donde entra la unidad. */
+    private int buscar(int nodo, double pesoUnitario, double volumenUnitario,
+                       double pesoMinimo, double volumenMinimo) {
+        if (nodo == NINGUNO || volumenLibreMaximo[nodo] < volumenMinimo) {
+            return NINGUNO;
+        }
+        if (pesoLibre(nodo) < pesoMinimo) {
+            return buscar(derecho[nodo], pesoUnitario, volumenUnitario, pesoMinimo, volumenMinimo);
+        }
+        int viaje = buscar(izquierdo[nodo], pesoUnitario, volumenUnitario, pesoMinimo, volumenMinimo);
+        if (viaje != NINGUNO) {
+            return viaje;
+        }
+        if (admite(nodo, pesoUnitario, volumenUnitario)) {
+            return nodo;
+        }
+        return buscar(derecho[nodo], pesoUnitario, volumenUnitario, pesoMinimo, volumenMinimo);
+    }
+
+    private int insertar(int nodo, int viaje) {
+        if (nodo == NINGUNO) {
+            return viaje;
+        }
+        if (prioridad(viaje) > prioridad(nodo)) {
+            dividir(nodo, viaje);
+            izquierdo[viaje] = izquierdoDividido;
+            derecho[viaje] = derechoDividido;
+            actualizar(viaje);
+            return viaje;
+        }
+        if (menor(viaje, nodo)) {
+            izquierdo[nodo] = insertar(izquierdo[nodo], viaje);
+        } else {
+            derecho[nodo] = insertar(derecho[nodo], viaje);
+        }
+        actualizar(nodo);
+        return nodo;
+    }
+
+    private int eliminar(int nodo, int viaje) {
+        if (nodo == NINGUNO) {
+            return NINGUNO;
+        }
+        if (nodo == viaje) {
+            return unir(izquierdo[nodo], derecho[nodo]);
+        }
+        if (menor(viaje, nodo)) {
+            izquierdo[nodo] = eliminar(izquierdo[nodo], viaje);
+        } else {
+            derecho[nodo] = eliminar(derecho[nodo], viaje);
+        }
+        actualizar(nodo);
+        return nodo;
+    }
+
+    /** Separa el subárbol en los nodos menores que {@code clave} y el resto. */
+    private void dividir(int nodo, int clave) {
+        if (nodo == NINGUNO) {
+            izquierdoDividido = NINGUNO;
+            derechoDividido = NINGUNO;
+            return;
+        }
+        if (menor(nodo, clave)) {
+            dividir(derecho[nodo], clave);
+            derecho[nodo] = izquierdoDividido;
+            actualizar(nodo);
+            izquierdoDividido = nodo;
+        } else {
+            dividir(izquierdo[nodo], clave);
+            izquierdo[nodo] = derechoDividido;
+            actualizar(nodo);
+            derechoDividido = nodo;
+        }
+    }
+
+    /** Une dos subárboles donde todas las claves de {@code menores} preceden a las de {@code mayores}. */
+    private int unir(int menores, int mayores) {
+        if (menores == NINGUNO) {
+            return mayores;
+        }
+        if (mayores == NINGUNO) {
+            return menores;
+        }
+        if (prioridad(menores) > prioridad(mayores)) {
+            derecho[menores] = unir(derecho[menores], mayores);
+            actualizar(menores);
+            return menores;
+        }
+        izquierdo[mayores] = unir(menores, izquierdo[mayores]);
+        actualizar(mayores);
+        return mayores;
+    }
+
+    private void actualizar(int nodo) {
+        double maximo = volumenMaximo - volumenViaje[nodo];
+        if (izquierdo[nodo] != NINGUNO) {
+            maximo = Math.max(maximo, volumenLibreMaximo[izquierdo[nodo]]);
+        }
+        if (derecho[nodo] != NINGUNO) {
+            maximo = Math.max(maximo, volumenLibreMaximo[derecho[nodo]]);
+        }
+        volumenLibreMaximo[nodo] = maximo;
+    }
+
+    private double pesoLibre(int viaje) {
+        return pesoMaximo - pesoViaje[viaje];
+    }
+
+    private boolean menor(int a, int b) {
+        int comparacion = Double.compare(pesoLibre(a), pesoLibre(b));
+        return comparacion != 0 ? comparacion < 0 : a < b;
+    }
+
+    /** Prioridad pseudoaleatoria fija por viaje, para que la decodificación sea determinista. */
+    private static int prioridad(int viaje) {
+        int h = viaje * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
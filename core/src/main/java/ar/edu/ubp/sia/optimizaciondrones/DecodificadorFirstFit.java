@@ -0,0 +1,95 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.util.Arrays;
+
+/**
+ * First-fit: cada unidad va al primer viaje, en orden de apertura, donde entra.
+ * <p>
+ * Los viajes se indexan en un árbol de segmentos que guarda, por rango, el mayor peso libre y el
+ * mayor volumen libre, y la búsqueda baja por la izquierda descartando los rangos donde ningún
+ * viaje tiene lugar en alguna de las dos dimensiones. Como la carga de un viaje sólo crece, una
+ * unidad nunca entra antes del viaje donde entró la anterior del mismo tipo: la búsqueda de cada
+ * tipo arranca desde ahí, así que cada viaje se descarta a lo sumo una vez por tipo y cada
+ * colocación cuesta O(log viajes) amortizado.
+ */
+public class DecodificadorFirstFit extends Decodificador {
+
+    private static final double SIN_VIAJE = Double.NEGATIVE_INFINITY;
+
+    private int hojas = 16;
+    private double[] pesoLibre = crearArbol(hojas);
+    private double[] volumenLibre = crearArbol(hojas);
+    private int[] primerViajePosible = new int[0];
+
+    private static double[] crearArbol(int hojas) {
+        double[] arbol = new double[2 * hojas];
+        Arrays.fill(arbol, SIN_VIAJE);
+        return arbol;
+    }
+
+    @Override
+    protected void limpiarIndice() {
+        Arrays.fill(pesoLibre, SIN_VIAJE);
+        Arrays.fill(volumenLibre, SIN_VIAJE);
+        Arrays.fill(primerViajePosible, 0);
+    }
+
+    @Override
+    protected void agregarAlIndice(int viaje) {
+        if (viaje >= hojas) {
+            crecer();
+        }
+        int nodo = hojas + viaje;
+        pesoLibre[nodo] = pesoMaximo - pesoViaje[viaje];
+        volumenLibre[nodo] = volumenMaximo - volumenViaje[viaje];
+        for (nodo >>= 1; nodo > 0; nodo >>= 1) {
+            pesoLibre[nodo] = Math.max(pesoLibre[2 * nodo], pesoLibre[2 * nodo + 1]);
+            volumenLibre[nodo] = Math.max(volumenLibre[2 * nodo], volumenLibre[2 * nodo + 1]);
+        }
+    }
+
+    @Override
+    protected int buscarViaje(int tipo, double pesoUnitario, double volumenUnitario) {
+        if (tipo >= primerViajePosible.length) {
+            primerViajePosible = Arrays.copyOf(primerViajePosible, Math.max(tipo + 1, 2 * primerViajePosible.length));
+        }
+        int viaje = buscar(1, 0, hojas, primerViajePosible[tipo], pesoUnitario, volumenUnitario,
+                pesoUnitario - TOLERANCIA_INDICE * pesoMaximo,
+                volumenUnitario - TOLERANCIA_INDICE * volumenMaximo);
+        // Si no entra en ningún viaje irá al que se abre ahora.
+        primerViajePosible[tipo] = viaje >= 0 ? viaje : viajes;
+        return viaje;
+    }
+
+    /** Primer viaje desde {@code desde} dentro del rango [inicio, fin) del nodo donde entra la unidad. */
+    private int buscar(int nodo, int inicio, int fin, int desde, double pesoUnitario, double volumenUnitario,
+                       double pesoMinimo, double volumenMinimo) {
+        if (fin <= desde || pesoLibre[nodo] < pesoMinimo || volumenLibre[nodo] < volumenMinimo) {
+            return -1;
+        }
+        if (nodo >= hojas) {
+            int viaje = nodo - hojas;
+            return admite(viaje, pesoUnitario, volumenUnitario) ? viaje : -1;
+        }
+        int medio = (inicio + fin) >>> 1;
+        int viaje = buscar(2 * nodo, inicio, medio, desde, pesoUnitario, volumenUnitario, pesoMinimo, volumenMinimo);
+        return viaje >= 0 ? viaje
+                : buscar(2 * nodo + 1, medio, fin, desde, pesoUnitario, volumenUnitario, pesoMinimo, volumenMinimo);
+    }
+
+    /** Duplica la cantidad de hojas y reconstruye los nodos internos. */
+    private void crecer() {
+        int anteriores = hojas;
+        hojas *= 2;
+        double[] peso = crearArbol(hojas);
+        double[] volumen = crearArbol(hojas);
+        System.arraycopy(pesoLibre, anteriores, peso, hojas, anteriores);
+        System.arraycopy(volumenLibre, anteriores, volumen, hojas, anteriores);
+        for (int nodo = hojas - 1; nodo > 0; nodo--) {
+            peso[nodo] = Math.max(peso[2 * nodo], peso[2 * nodo + 1]);
+            volumen[nodo] = Math.max(volumen[2 * nodo], volumen[2 * nodo + 1]);
+        }
+        pesoLibre = peso;
+        volumenLibre = volumen;
+    }
+}
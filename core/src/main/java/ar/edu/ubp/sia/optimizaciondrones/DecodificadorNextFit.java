@@ -0,0 +1,14 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+/**
+ * Next-fit: sólo el último viaje está abierto. Cuando una unidad no entra se cierra y se abre
+ * otro, aunque en un viaje anterior quede lugar. Es la decodificación original del algoritmo.
+ */
+public class DecodificadorNextFit extends Decodificador {
+
+    @Override
+    protected int buscarViaje(int tipo, double pesoUnitario, double volumenUnitario) {
+        int ultimo = viajes - 1;
+        return ultimo >= 0 && admite(ultimo, pesoUnitario, volumenUnitario) ? ultimo : -1;
+    }
+}
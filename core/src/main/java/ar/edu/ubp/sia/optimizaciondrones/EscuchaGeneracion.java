@@ -0,0 +1,14 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+/**
+ * Recibe el progreso de la evolución al cerrar cada generación.
+ * <p>
+ * Se invoca de forma sincrónica en el hilo que evoluciona la población, y en el modelo de islas
+ * desde el hilo de cada isla, así que una implementación lenta frena la búsqueda y una que
+ * actualiza una interfaz gráfica debe delegar el trabajo a su propio hilo.
+ */
+@FunctionalInterface
+public interface EscuchaGeneracion {
+
+    void generacionCompletada(ProgresoGeneracion progreso);
+}
@@ -0,0 +1,115 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.util.Arrays;
+
+/**
+ * Estado de prefijo de la última decodificación secuencial de un cromosoma:
+ * posición de inicio de cada viaje y aprovechamiento acumulado de los viajes anteriores.
+ * Permite retomar la decodificación desde el viaje que contiene el primer gen modificado.
+ */
+class EstadoDecodificacion {
+
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    private int[] inicioViaje;
+    private double[] aprovechamientoPrevio;
+    private int viajes;
+    private boolean cubrePedido;
+    private double fitness;
+
+    EstadoDecodificacion() {
+        this.inicioViaje = new int[CAPACIDAD_INICIAL];
+        this.aprovechamientoPrevio = new double[CAPACIDAD_INICIAL];
+    }
+
+    private EstadoDecodificacion(EstadoDecodificacion otro) {
+        this.inicioViaje = Arrays.copyOf(otro.inicioViaje, Math.max(otro.viajes, 1));
+        this.aprovechamientoPrevio = Arrays.copyOf(otro.aprovechamientoPrevio, Math.max(otro.viajes, 1));
+        this.viajes = otro.viajes;
+        this.cubrePedido = otro.cubrePedido;
+        this.fitness = otro.fitness;
+    }
+
+    /** Registra que el viaje {@code viaje} comienza en {@code posicion} con el aprovechamiento previo dado. */
+    void registrarInicioViaje(int viaje, int posicion, double aprovechamientoAcumulado) {
+        if (viaje >= inicioViaje.length) {
+            int capacidad = Math.max(viaje + 1, inicioViaje.length * 2);
+            inicioViaje = Arrays.copyOf(inicioViaje, capacidad);
+            aprovechamientoPrevio = Arrays.copyOf(aprovechamientoPrevio, capacidad);
+        }
+        inicioViaje[viaje] = posicion;
+        aprovechamientoPrevio[viaje] = aprovechamientoAcumulado;
+    }
+
+    /** Cierra el estado con el resultado completo de la decodificación. */
+    void completar(int viajes, boolean cubrePedido, double fitness) {
+        this.viajes = viajes;
+        this.cubrePedido = cubrePedido;
+        this.fitness = fitness;
+    }
+
+    /** Marca el estado como no cubriente sin conservar los límites de viaje. */
+    void invalidarCobertura() {
+        this.viajes = 0;
+        this.cubrePedido = false;
+        this.fitness = 0.0;
+    }
+
+    /**
+     * @return índice del viaje que contiene la posición, o 0 si está antes del primer viaje
+     * o no hay viajes registrados
+     */
+    int viajeQueContiene(int posicion) {
+        int desde = 0;
+        int hasta = viajes - 1;
+        int encontrado = 0;
+        while (desde <= hasta) {
+            int medio = (desde + hasta) >>> 1;
+            if (inicioViaje[medio] <= posicion) {
+                encontrado = medio;
+                desde = medio + 1;
+            } else {
+                hasta = medio - 1;
+            }
+        }
+        return encontrado;
+    }
+
+    int getInicioViaje(int viaje) {
+        return inicioViaje[viaje];
+    }
+
+    double getAprovechamientoPrevio(int viaje) {
+        return aprovechamientoPrevio[viaje];
+    }
+
+    int getViajes() {
+        return viajes;
+    }
+
+    boolean cubrePedido() {
+        return cubrePedido;
+    }
+
+    double getFitness() {
+        return fitness;
+    }
+
+    /** Sobrescribe este estado con el de otro, creciendo los arreglos sólo si no alcanzan. */
+    void copiarDesde(EstadoDecodificacion otro) {
+        if (inicioViaje.length < otro.viajes) {
+            inicioViaje = new int[otro.inicioViaje.length];
+            aprovechamientoPrevio = new double[otro.aprovechamientoPrevio.length];
+        }
+        System.arraycopy(otro.inicioViaje, 0, inicioViaje, 0, otro.viajes);
+        System.arraycopy(otro.aprovechamientoPrevio, 0, aprovechamientoPrevio, 0, otro.viajes);
+        this.viajes = otro.viajes;
+        this.cubrePedido = otro.cubrePedido;
+        this.fitness = otro.fitness;
+    }
+
+    /** @return copia independiente para un cromosoma clonado. */
+    EstadoDecodificacion copiar() {
+        return new EstadoDecodificacion(this);
+    }
+}
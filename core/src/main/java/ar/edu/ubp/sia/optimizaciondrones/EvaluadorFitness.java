@@ -0,0 +1,343 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.util.Arrays;
+
+/**
+ * Calcula el fitness de un cromosoma sin construir {@link ViajeOptimo}.
+ * Trabaja sobre tablas primitivas de peso, volumen y cantidad indexadas por id de gen y
+ * sólo acumula cantidad de viajes y sumas de llenado, replicando la decodificación
+ * secuencial usada para armar los viajes finales.
+ * <p>
+ * En modo incremental guarda en cada cromosoma el inicio de sus viajes; tras un intercambio
+ * de genes retoma la decodificación desde el viaje que contiene la primera posición modificada.
+ * <p>
+ * Con codificación por lotes cada gen representa varias unidades del mismo producto: el viaje
+ * elegido recibe todas las que entran de una vez y el resto pasa en bloque a otros viajes, con
+ * el mismo resultado que decodificar las unidades una por una. Los lotes y las estrategias
+ * distintas de next-fit se decodifican con un {@link Decodificador} por hilo; los viajes no
+ * quedan delimitados por posiciones del cromosoma, por lo que no usan la evaluación incremental.
+ * <p>
+ * Con una {@link Flota} de varios tipos cada viaje se vuela con el dron más barato que admite su
+ * carga: el aprovechamiento se mide contra la capacidad de ese dron y el término de viajes del
+ * fitness pasa a ser el del costo total, relativo al viaje más barato. Con un único tipo ambos
+ * coinciden con la fórmula original.
+ */
+public class EvaluadorFitness {
+
+    private static final double PESO_FITNESS_APROVECHAMIENTO = 0.7;
+    private static final double PESO_FITNESS_VIAJES = 0.3;
+    private static final double TOLERANCIA_COTA = 1e-9;
+
+    private final double[] pesoPorGen;
+    private final double[] volumenPorGen;
+    private final int[] cantidadPorGen;
+    private final int[] unidadesPorGen;
+    private final Flota flota;
+    private final ModeloPedido modelo;
+    private final double pesoMaximo;
+    private final double volumenMaximo;
+    private final boolean incremental;
+    private final boolean colocacionGeneral;
+    private final ThreadLocal<Decodificador> decodificadores;
+    private final int[] conteo;
+
+    /**
+     * Crea un evaluador para un pedido ya traducido a ids de gen.
+     *
+     * @param pesoPorGen peso unitario de cada id de gen
+     * @param volumenPorGen volumen unitario de cada id de gen
+     * @param cantidadPorGen unidades solicitadas de cada id de gen
+     * @param pesoMaximo peso máximo por viaje
+     * @param volumenMaximo volumen máximo por viaje
+     * @param incremental true para registrar y reutilizar el estado de decodificación de cada cromosoma
+     */
+    public EvaluadorFitness(double[] pesoPorGen, double[] volumenPorGen, int[] cantidadPorGen,
+                            double pesoMaximo, double volumenMaximo, boolean incremental) {
+        this(pesoPorGen, volumenPorGen, cantidadPorGen, null, pesoMaximo, volumenMaximo, incremental, "Next Fit");
+    }
+
+    /**
+     * Crea un evaluador para un pedido codificado por lotes y decodificado con la estrategia indicada.
+     *
+     * @param pesoPorGen peso unitario del producto de cada id de gen
+     * @param volumenPorGen volumen unitario del producto de cada id de gen
+     * @param cantidadPorGen cantidad de genes de cada id que debe contener un cromosoma válido
+     * @param unidadesPorGen unidades del producto que representa cada gen, o {@code null} si es una
+     * @param pesoMaximo peso máximo por viaje
+     * @param volumenMaximo volumen máximo por viaje
+     * @param incremental true para registrar y reutilizar el estado de decodificación de cada
+     *                    cromosoma; sólo se aplica a next-fit sin lotes
+     * @param tipoDecodificador etiqueta de {@link FabricaOperadores#TIPOS_DECODIFICADOR}
+     */
+    public EvaluadorFitness(double[] pesoPorGen, double[] volumenPorGen, int[] cantidadPorGen,
+                            int[] unidadesPorGen, double pesoMaximo, double volumenMaximo,
+                            boolean incremental, String tipoDecodificador) {
+        this(pesoPorGen, volumenPorGen, cantidadPorGen, unidadesPorGen, Flota.uniforme(pesoMaximo, volumenMaximo),
+                incremental, tipoDecodificador);
+    }
+
+    /**
+     * Crea un evaluador que asigna cada viaje a un dron de la flota.
+     *
+     * @param flota tipos de dron disponibles; con más de un tipo no se usa la evaluación incremental
+     * @see #EvaluadorFitness(double[], double[], int[], int[], double, double, boolean, String)
+     */
+    public EvaluadorFitness(double[] pesoPorGen, double[] volumenPorGen, int[] cantidadPorGen,
+                            int[] unidadesPorGen, Flota flota, boolean incremental, String tipoDecodificador) {
+        this(ModeloPedido.desdeTablas(pesoPorGen, volumenPorGen, cantidadPorGen, unidadesPorGen, flota),
+                incremental, tipoDecodificador);
+    }
+
+    /**
+     * Crea un evaluador sobre un pedido compilado, sin copiar sus tablas.
+     *
+     * @param modelo pedido compilado con la flota que vuela los viajes
+     * @param incremental true para registrar y reutilizar el estado de decodificación de cada
+     *                    cromosoma; sólo se aplica a next-fit sin lotes y con un único tipo de dron
+     * @param tipoDecodificador etiqueta de {@link FabricaOperadores#TIPOS_DECODIFICADOR}
+     */
+    public EvaluadorFitness(ModeloPedido modelo, boolean incremental, String tipoDecodificador) {
+        this.modelo = modelo;
+        this.pesoPorGen = modelo.getPesoPorGen();
+        this.volumenPorGen = modelo.getVolumenPorGen();
+        this.cantidadPorGen = modelo.getCantidadPorGen();
+        this.unidadesPorGen = modelo.getUnidadesPorGen();
+        this.flota = modelo.getFlota();
+        this.pesoMaximo = flota.getPesoMaximo(0);
+        this.volumenMaximo = flota.getVolumenMaximo(0);
+        this.colocacionGeneral = modelo.isPorLotes() || !"Next Fit".equals(tipoDecodificador)
+                || flota.getCantidadTipos() > 1;
+        this.incremental = incremental && !colocacionGeneral;
+        this.decodificadores = ThreadLocal.withInitial(() -> FabricaOperadores.crearDecodificador(tipoDecodificador));
+        this.conteo = new int[cantidadPorGen.length];
+    }
+
+    /**
+     * Calcula el fitness considerando cobertura completa del pedido,
+     * eficiencia media de carga y penalización por número de viajes.
+     * Reutiliza un contador interno, por lo que no debe invocarse desde varios hilos a la vez.
+     */
+    public double evaluar(Cromosoma cromosoma) {
+        return evaluar(cromosoma, conteo);
+    }
+
+    /**
+     * Variante segura para hilos: usa el contador recibido en lugar del interno.
+     *
+     * @param cromosoma individuo a evaluar
+     * @param conteo contador de trabajo obtenido con {@link #crearContador()}
+     */
+    public double evaluar(Cromosoma cromosoma, int[] conteo) {
+        if (colocacionGeneral) {
+            return decodificarColocando(cromosoma, conteo);
+        }
+        if (!incremental) {
+            return decodificar(cromosoma, conteo, null, 0);
+        }
+
+        EstadoDecodificacion estado = cromosoma.getEstadoDecodificacion();
+        if (estado == null || cromosoma.getGenesReemplazados() > 1
+                || (cromosoma.getGenesReemplazados() == 1 && !estado.cubrePedido())) {
+            if (estado == null) {
+                estado = cromosoma.reservarEstado();
+            }
+            double fitness = decodificar(cromosoma, conteo, estado, 0);
+            cromosoma.marcarEvaluado(estado);
+            return fitness;
+        }
+
+        if (cromosoma.getGenesReemplazados() == 1) {
+            // Un único reemplazo sobre un pedido cubierto deja un producto con faltante.
+            estado.invalidarCobertura();
+        } else if (estado.cubrePedido()
+                && cromosoma.getPrimeraPosicionModificada() != Cromosoma.SIN_MODIFICACIONES) {
+            // El gen en la posición modificada se compara contra el viaje abierto antes de él,
+            // que puede ser el anterior si la posición coincide con un inicio de viaje.
+            int posicion = cromosoma.getPrimeraPosicionModificada();
+            int viaje = posicion == 0 ? 0 : estado.viajeQueContiene(posicion - 1);
+            decodificar(cromosoma, conteo, estado, viaje);
+        }
+        cromosoma.marcarEvaluado(estado);
+        return estado.getFitness();
+    }
+
+    /**
+     * Decodifica secuencialmente desde el inicio del viaje indicado.
+     * Al retomar desde un viaje posterior al primero se asume que el multiconjunto de genes no cambió,
+     * por lo que la cobertura se toma del estado previo en lugar de recontarse.
+     *
+     * @param estado estado a actualizar, o {@code null} para no registrar límites de viaje
+     * @param viajeInicial viaje desde el cual retomar; 0 decodifica el cromosoma completo
+     */
+    private double decodificar(Cromosoma cromosoma, int[] conteo, EstadoDecodificacion estado, int viajeInicial) {
+        boolean completa = viajeInicial == 0;
+        int viajes = viajeInicial;
+        double sumaAprovechamiento = completa ? 0.0 : estado.getAprovechamientoPrevio(viajeInicial);
+        double pesoActual = 0.0;
+        double volumenActual = 0.0;
+        boolean viajeAbierto = false;
+        if (completa) {
+            Arrays.fill(conteo, 0);
+        }
+
+        int inicio = completa ? 0 : estado.getInicioViaje(viajeInicial);
+        for (int i = inicio, longitud = cromosoma.getLongitud(); i < longitud; i++) {
+            int gen = cromosoma.getGene(i);
+            if (gen < 0 || gen >= pesoPorGen.length) {
+                continue;
+            }
+
+            double pesoUnitario = pesoPorGen[gen];
+            double volumenUnitario = volumenPorGen[gen];
+
+            if (pesoActual + pesoUnitario > pesoMaximo
+                    || volumenActual + volumenUnitario > volumenMaximo) {
+                if (viajeAbierto) {
+                    sumaAprovechamiento += aprovechamiento(pesoActual, volumenActual);
+                    viajes++;
+                    viajeAbierto = false;
+                }
+                pesoActual = 0.0;
+                volumenActual = 0.0;
+            }
+
+            if (!viajeAbierto && estado != null) {
+                estado.registrarInicioViaje(viajes, i, sumaAprovechamiento);
+            }
+            pesoActual += pesoUnitario;
+            volumenActual += volumenUnitario;
+            viajeAbierto = true;
+            if (completa) {
+                conteo[gen]++;
+            }
+        }
+
+        if (viajeAbierto) {
+            sumaAprovechamiento += aprovechamiento(pesoActual, volumenActual);
+            viajes++;
+        }
+
+        boolean cubre = completa ? cubrePedidoCompleto(conteo) : estado.cubrePedido();
+        double fitness = calcularFitness(viajes, sumaAprovechamiento, cubre);
+        if (estado != null) {
+            estado.completar(viajes, cubre, fitness);
+        }
+        return fitness;
+    }
+
+    /**
+     * Decodificación con la estrategia configurada. Cada gen coloca sus unidades en bloque, viaje
+     * por viaje, así el costo depende de genes y viajes y no de unidades.
+     */
+    private double decodificarColocando(Cromosoma cromosoma, int[] conteo) {
+        Decodificador decodificador = decodificadores.get();
+        decodificador.reiniciar(flota);
+        Arrays.fill(conteo, 0);
+
+        for (int i = 0, longitud = cromosoma.getLongitud(); i < longitud; i++) {
+            int gen = cromosoma.getGene(i);
+            if (gen < 0 || gen >= pesoPorGen.length) {
+                continue;
+            }
+
+            int pendientes = unidadesPorGen[gen];
+            while (pendientes > 0) {
+                pendientes -= decodificador.colocar(gen, pesoPorGen[gen], volumenPorGen[gen], pendientes);
+            }
+            conteo[gen]++;
+        }
+
+        int viajes = decodificador.getCantidadViajes();
+        double sumaAprovechamiento = 0.0;
+        double costo = 0.0;
+        for (int viaje = 0; viaje < viajes; viaje++) {
+            double peso = decodificador.getPeso(viaje);
+            double volumen = decodificador.getVolumen(viaje);
+            int tipo = flota.tipoParaCarga(peso, volumen);
+            sumaAprovechamiento += aprovechamiento(peso, volumen, flota.getPesoMaximo(tipo), flota.getVolumenMaximo(tipo));
+            costo += flota.getCostoRelativo(tipo);
+        }
+
+        return calcularFitness(viajes, sumaAprovechamiento, costo, cubrePedidoCompleto(conteo));
+    }
+
+    /** Variante para un único tipo de dron, donde cada viaje cuesta lo mismo. */
+    private double calcularFitness(int viajes, double sumaAprovechamiento, boolean cubre) {
+        return calcularFitness(viajes, sumaAprovechamiento, viajes, cubre);
+    }
+
+    /**
+     * Combina aprovechamiento medio y penalización por costo de la flota.
+     *
+     * @param costo suma de los costos relativos de los viajes; con un único tipo, la cantidad de viajes
+     */
+    private double calcularFitness(int viajes, double sumaAprovechamiento, double costo, boolean cubre) {
+        if (viajes == 0 || !cubre) {
+            return 0.0;
+        }
+
+        double aprovechamientoPromedio = sumaAprovechamiento / viajes;
+        double penalizacionViajes = Math.pow(1.0 / costo, 2);
+        double bonusAprovechamiento = Math.pow(aprovechamientoPromedio, 3);
+
+        return (bonusAprovechamiento * PESO_FITNESS_APROVECHAMIENTO)
+                + (penalizacionViajes * PESO_FITNESS_VIAJES);
+    }
+
+    /**
+     * Cota inferior de viajes para el pedido: ninguna secuencia puede usar menos.
+     * Con varios tipos de dron usa las mayores capacidades de la flota.
+     *
+     * @see ModeloPedido#getViajesMinimosTeoricos()
+     */
+    public int viajesMinimosTeoricos() {
+        return modelo.getViajesMinimosTeoricos();
+    }
+
+    /**
+     * Fitness de cualquier secuencia que cubra el pedido en la cantidad de viajes indicada.
+     * El aprovechamiento sumado de los viajes sólo depende de los totales del pedido,
+     * así que con cobertura completa el fitness queda determinado por la cantidad de viajes.
+     * Sólo vale para una flota de un único tipo; con varios depende de qué drones se usen.
+     */
+    public double fitnessConViajes(int viajes) {
+        return calcularFitness(viajes, aprovechamiento(modelo.getPesoTotal(), modelo.getVolumenTotal()), true);
+    }
+
+    /**
+     * Viajes necesarios para transportar un total con la capacidad dada, sin fraccionar la capacidad.
+     * Descuenta una tolerancia para que el error de redondeo de la suma no agregue un viaje.
+     */
+    public static int viajesMinimos(double total, double capacidad) {
+        if (capacidad <= 0 || total <= 0) {
+            return 0;
+        }
+        return (int) Math.ceil(total / capacidad - TOLERANCIA_COTA);
+    }
+
+    /** @return contador de trabajo dimensionado para {@link #evaluar(Cromosoma, int[])}. */
+    public int[] crearContador() {
+        return new int[cantidadPorGen.length];
+    }
+
+    /** Verifica con el conteo de la decodificación si se cubren todas las unidades pedidas. */
+    private boolean cubrePedidoCompleto(int[] conteo) {
+        for (int gen = 0; gen < cantidadPorGen.length; gen++) {
+            if (conteo[gen] < cantidadPorGen[gen]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Promedio de utilización de peso y volumen de un viaje con el único tipo de dron, en porcentaje. */
+    private double aprovechamiento(double peso, double volumen) {
+        return aprovechamiento(peso, volumen, pesoMaximo, volumenMaximo);
+    }
+
+    private static double aprovechamiento(double peso, double volumen, double pesoMaximo, double volumenMaximo) {
+        double usoPeso = pesoMaximo <= 0 ? 0.0 : (peso / pesoMaximo) * 100.0;
+        double usoVolumen = volumenMaximo <= 0 ? 0.0 : (volumen / volumenMaximo) * 100.0;
+        return (usoPeso + usoVolumen) / 2.0;
+    }
+}
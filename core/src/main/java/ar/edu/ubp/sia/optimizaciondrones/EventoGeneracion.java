@@ -0,0 +1,111 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Evento de Java Flight Recorder con las métricas de una generación. Viene habilitado, así que
+ * lo guarda cualquier grabación, por ejemplo la que inicia
+ * {@code -XX:StartFlightRecording:filename=optimizacion.jfr}, y se ve con {@code jfr print}
+ * o JDK Mission Control.
+ */
+@Name("ar.edu.ubp.sia.optimizaciondrones.Generacion")
+@Label("Generación del AG")
+@Category({"Optimización de drones"})
+@Description("Aptitudes, diversidad, tiempos por fase y asignaciones de una generación")
+@StackTrace(false)
+public class EventoGeneracion extends Event {
+
+    @Label("Isla")
+    int isla;
+
+    @Label("Generación")
+    int generacion;
+
+    @Label("Mejor aptitud")
+    double mejorAptitud;
+
+    @Label("Aptitud promedio")
+    double aptitudPromedio;
+
+    @Label("Peor aptitud")
+    double peorAptitud;
+
+    @Label("Diversidad")
+    double diversidad;
+
+    @Label("Selección")
+    @Timespan(Timespan.NANOSECONDS)
+    long nanosSeleccion;
+
+    @Label("Cruza")
+    @Timespan(Timespan.NANOSECONDS)
+    long nanosCruza;
+
+    @Label("Mutación")
+    @Timespan(Timespan.NANOSECONDS)
+    long nanosMutacion;
+
+    @Label("Evaluación")
+    @Timespan(Timespan.NANOSECONDS)
+    long nanosEvaluacion;
+
+    @Label("Ordenamiento")
+    @Timespan(Timespan.NANOSECONDS)
+    long nanosOrdenamiento;
+
+    @Label("Búsqueda local")
+    @Timespan(Timespan.NANOSECONDS)
+    long nanosBusquedaLocal;
+
+    @Label("Mejoras de la búsqueda local")
+    int mejorasBusquedaLocal;
+
+    @Label("Aciertos de caché")
+    long aciertosCache;
+
+    @Label("Fallos de caché")
+    long fallosCache;
+
+    @Label("Bytes asignados")
+    @DataAmount(DataAmount.BYTES)
+    long bytesAsignados;
+
+    /**
+     * @return escucha que graba un evento por generación; no hace nada mientras ninguna
+     *         grabación tenga el evento habilitado
+     */
+    public static EscuchaGeneracion crearEscucha() {
+        return EventoGeneracion::grabar;
+    }
+
+    private static void grabar(ProgresoGeneracion progreso) {
+        EventoGeneracion evento = new EventoGeneracion();
+        if (!evento.isEnabled()) {
+            return;
+        }
+        evento.isla = progreso.getIsla();
+        evento.generacion = progreso.getGeneracion();
+        evento.mejorAptitud = progreso.getMejorAptitud();
+        evento.aptitudPromedio = progreso.getAptitudPromedio();
+        evento.peorAptitud = progreso.getPeorAptitud();
+        evento.diversidad = progreso.getDiversidad();
+        evento.nanosSeleccion = progreso.getNanosSeleccion();
+        evento.nanosCruza = progreso.getNanosCruza();
+        evento.nanosMutacion = progreso.getNanosMutacion();
+        evento.nanosEvaluacion = progreso.getNanosEvaluacion();
+        evento.nanosOrdenamiento = progreso.getNanosOrdenamiento();
+        evento.nanosBusquedaLocal = progreso.getNanosBusquedaLocal();
+        evento.mejorasBusquedaLocal = progreso.getMejorasBusquedaLocal();
+        evento.aciertosCache = progreso.getAciertosCache();
+        evento.fallosCache = progreso.getFallosCache();
+        evento.bytesAsignados = progreso.getBytesAsignados();
+        evento.commit();
+    }
+}
@@ -0,0 +1,87 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Fábrica centralizada para crear operadores genéticos según su nombre de configuración.
+ */
+public class FabricaOperadores {
+
+    /** Etiquetas de selección aceptadas por {@link #crearSeleccion(String)}. */
+    public static final List<String> TIPOS_SELECCION =
+            List.of("Torneo", "Ruleta", "Ranking", "Ruleta (alias)", "Ranking (acumulado)");
+
+    /** Etiquetas de cruza aceptadas por {@link #crearCruza(String)}. */
+    public static final List<String> TIPOS_CRUZA = List.of("Un Punto", "Dos Puntos", "Uniforme", "Orden", "Ciclos");
+
+    /** Etiquetas de mutación aceptadas por {@link #crearMutacion(String)}. */
+    public static final List<String> TIPOS_MUTACION = List.of("Simple", "Intercambio", "Inversión");
+
+    /** Etiquetas de decodificación aceptadas por {@link #crearDecodificador(String)}. */
+    public static final List<String> TIPOS_DECODIFICADOR = List.of("Next Fit", "First Fit", "Best Fit");
+
+    /** Estrategias de población inicial aceptadas por {@link ConfiguracionAG#setTipoInicializacion(String)}. */
+    public static final List<String> TIPOS_INICIALIZACION =
+            List.of("Aleatoria", "Peso decreciente", "Volumen decreciente", "First Fit Decreciente");
+
+    /** Crea estrategia de selección según etiqueta de UI. */
+    public static Seleccion crearSeleccion(String tipo) {
+        return crearSeleccion(tipo, new SplittableRandom());
+    }
+
+    /** Crea estrategia de selección que toma sus números aleatorios de {@code random}. */
+    public static Seleccion crearSeleccion(String tipo, RandomGenerator random) {
+        return switch (tipo) {
+            case "Torneo" -> new SeleccionTorneo(6, random);
+            case "Ruleta" -> new SeleccionRuleta(random);
+            case "Ranking" -> new SeleccionRanking(random);
+            case "Ruleta (alias)" -> new SeleccionRuletaAlias(random);
+            case "Ranking (acumulado)" -> new SeleccionRankingAcumulada(random);
+            default -> throw new IllegalArgumentException("Selección inválida: " + tipo);
+        };
+    }
+
+    /** Crea estrategia de cruza según etiqueta de UI. */
+    public static Cruza crearCruza(String tipo) {
+        return crearCruza(tipo, new SplittableRandom());
+    }
+
+    /** Crea estrategia de cruza que toma sus números aleatorios de {@code random}. */
+    public static Cruza crearCruza(String tipo, RandomGenerator random) {
+        return switch (tipo) {
+            case "Un Punto" -> new CruzaUnPunto(random);
+            case "Dos Puntos" -> new CruzaDosPuntos(random);
+            case "Uniforme" -> new CruzaUniforme(random);
+            case "Orden" -> new CruzaOrden(random);
+            case "Ciclos" -> new CruzaCiclos(random);
+            default -> throw new IllegalArgumentException("Cruza inválida: " + tipo);
+        };
+    }
+
+    /** Crea estrategia de mutación según etiqueta de UI. */
+    public static Mutacion crearMutacion(String tipo) {
+        return crearMutacion(tipo, new SplittableRandom());
+    }
+
+    /** Crea estrategia de mutación que toma sus números aleatorios de {@code random}. */
+    public static Mutacion crearMutacion(String tipo, RandomGenerator random) {
+        return switch (tipo) {
+            case "Simple" -> new MutacionSimple(random);
+            case "Intercambio" -> new MutacionIntercambio(random);
+            case "Inversión" -> new MutacionInversion(random);
+            default -> throw new IllegalArgumentException("Mutación inválida: " + tipo);
+        };
+    }
+
+    /** Crea estrategia de decodificación de viajes según etiqueta de UI. */
+    public static Decodificador crearDecodificador(String tipo) {
+        return switch (tipo) {
+            case "Next Fit" -> new DecodificadorNextFit();
+            case "First Fit" -> new DecodificadorFirstFit();
+            case "Best Fit" -> new DecodificadorBestFit();
+            default -> throw new IllegalArgumentException("Decodificador inválido: " + tipo);
+        };
+    }
+}
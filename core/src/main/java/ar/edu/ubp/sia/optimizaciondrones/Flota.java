@@ -0,0 +1,134 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Tipos de dron disponibles para un pedido. Cada viaje se asigna al tipo más barato cuya
+ * capacidad admite su carga, así que los viajes livianos usan drones chicos y los cargados
+ * drones grandes.
+ * <p>
+ * Los tipos se guardan ordenados por costo en arreglos primitivos para que la decodificación
+ * y la evaluación consulten capacidades sin crear objetos.
+ */
+public final class Flota {
+
+    private final List<TipoDron> tipos;
+    private final double[] pesoMaximo;
+    private final double[] volumenMaximo;
+    private final double[] costoRelativo;
+    private final double pesoMaximoFlota;
+    private final double volumenMaximoFlota;
+    private final int tipoMayor;
+
+    /**
+     * @param tipos modelos de dron, en cualquier orden
+     * @throws IllegalArgumentException si no hay tipos o se repite un nombre
+     */
+    public Flota(List<TipoDron> tipos) {
+        if (tipos.isEmpty()) {
+            throw new IllegalArgumentException("La flota necesita al menos un tipo de dron");
+        }
+        List<TipoDron> ordenados = new ArrayList<>(tipos);
+        ordenados.sort(Comparator.comparingDouble(TipoDron::getCostoPorViaje)
+                .thenComparingDouble(TipoDron::getPesoMaximo)
+                .thenComparingDouble(TipoDron::getVolumenMaximo));
+        for (int i = 0; i < ordenados.size(); i++) {
+            for (int j = 0; j < i; j++) {
+                if (ordenados.get(i).getNombre().equals(ordenados.get(j).getNombre())) {
+                    throw new IllegalArgumentException("Tipo de dron duplicado: " + ordenados.get(i).getNombre());
+                }
+            }
+        }
+        this.tipos = List.copyOf(ordenados);
+
+        int cantidad = ordenados.size();
+        this.pesoMaximo = new double[cantidad];
+        this.volumenMaximo = new double[cantidad];
+        this.costoRelativo = new double[cantidad];
+        double costoMinimo = ordenados.get(0).getCostoPorViaje();
+        double pesoFlota = 0.0;
+        double volumenFlota = 0.0;
+        for (int tipo = 0; tipo < cantidad; tipo++) {
+            TipoDron dron = ordenados.get(tipo);
+            pesoMaximo[tipo] = dron.getPesoMaximo();
+            volumenMaximo[tipo] = dron.getVolumenMaximo();
+            costoRelativo[tipo] = dron.getCostoPorViaje() / costoMinimo;
+            pesoFlota = Math.max(pesoFlota, dron.getPesoMaximo());
+            volumenFlota = Math.max(volumenFlota, dron.getVolumenMaximo());
+        }
+        this.pesoMaximoFlota = pesoFlota;
+        this.volumenMaximoFlota = volumenFlota;
+
+        int mayor = 0;
+        double mayorCapacidad = -1.0;
+        for (int tipo = 0; tipo < cantidad; tipo++) {
+            double capacidad = (pesoFlota > 0 ? pesoMaximo[tipo] / pesoFlota : 0.0)
+                    + (volumenFlota > 0 ? volumenMaximo[tipo] / volumenFlota : 0.0);
+            if (capacidad > mayorCapacidad) {
+                mayorCapacidad = capacidad;
+                mayor = tipo;
+            }
+        }
+        this.tipoMayor = mayor;
+    }
+
+    /** @return flota de un único dron con la capacidad dada, equivalente a no usar flota */
+    public static Flota uniforme(double pesoMaximo, double volumenMaximo) {
+        return new Flota(List.of(new TipoDron("Dron", pesoMaximo, volumenMaximo, 1, 1.0)));
+    }
+
+    /**
+     * Tipo asignado a un viaje con la carga dada: el más barato que la admite. Una carga que no
+     * entra en ningún tipo, como una unidad más grande que cualquier dron, va en el tipo de
+     * mayor capacidad.
+     *
+     * @return índice del tipo, según el orden de {@link #getTipos()}
+     */
+    public int tipoParaCarga(double peso, double volumen) {
+        for (int tipo = 0; tipo < pesoMaximo.length; tipo++) {
+            if (peso <= pesoMaximo[tipo] && volumen <= volumenMaximo[tipo]) {
+                return tipo;
+            }
+        }
+        return tipoMayor;
+    }
+
+    /** @return tipos ordenados de menor a mayor costo por viaje */
+    public List<TipoDron> getTipos() {
+        return tipos;
+    }
+
+    public int getCantidadTipos() {
+        return tipos.size();
+    }
+
+    public double getPesoMaximo(int tipo) {
+        return pesoMaximo[tipo];
+    }
+
+    public double getVolumenMaximo(int tipo) {
+        return volumenMaximo[tipo];
+    }
+
+    /** @return costo por viaje del tipo dividido por el del tipo más barato */
+    public double getCostoRelativo(int tipo) {
+        return costoRelativo[tipo];
+    }
+
+    /** @return mayor peso por viaje entre todos los tipos */
+    public double getPesoMaximo() {
+        return pesoMaximoFlota;
+    }
+
+    /** @return mayor volumen por viaje entre todos los tipos */
+    public double getVolumenMaximo() {
+        return volumenMaximoFlota;
+    }
+
+    @Override
+    public String toString() {
+        return "Flota" + tipos;
+    }
+}
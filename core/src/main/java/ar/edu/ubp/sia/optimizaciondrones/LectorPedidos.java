@@ -0,0 +1,85 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Lee pedidos desde archivos de texto con una línea por producto:
+ * {@code nombre;peso;cantidad;ancho;alto;profundidad}, igual que el formulario de la interfaz.
+ * Se ignoran líneas vacías y las que comienzan con {@code #}.
+ */
+public class LectorPedidos {
+
+    private static final String SEPARADOR = ";";
+    private static final int CAMPOS = 6;
+
+    /**
+     * @param archivo ruta del pedido; su nombre sin extensión identifica al pedido
+     * @return pedido con pesos, volúmenes y cantidades
+     * @throws IllegalArgumentException si alguna línea no respeta el formato
+     */
+    public static DatosPedido leer(Path archivo) throws IOException {
+        DatosPedido datos = new DatosPedido(nombreSinExtension(archivo));
+
+        try (BufferedReader reader = Files.newBufferedReader(archivo, StandardCharsets.UTF_8)) {
+            String linea;
+            int numeroLinea = 0;
+            while ((linea = reader.readLine()) != null) {
+                numeroLinea++;
+                linea = linea.trim();
+                if (linea.isEmpty() || linea.startsWith("#")) {
+                    continue;
+                }
+                try {
+                    agregarLinea(datos, linea);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException(archivo + ":" + numeroLinea + ": " + e.getMessage(), e);
+                }
+            }
+        }
+
+        if (datos.getPedido().isEmpty()) {
+            throw new IllegalArgumentException(archivo + ": el pedido no tiene productos con cantidad positiva");
+        }
+        return datos;
+    }
+
+    private static void agregarLinea(DatosPedido datos, String linea) {
+        String[] campos = linea.split(SEPARADOR);
+        if (campos.length != CAMPOS) {
+            throw new IllegalArgumentException("se esperaban " + CAMPOS + " campos separados por '"
+                    + SEPARADOR + "' y hay " + campos.length);
+        }
+
+        String nombre = campos[0].trim();
+        if (nombre.isEmpty()) {
+            throw new IllegalArgumentException("el nombre del producto está vacío");
+        }
+
+        double peso;
+        int cantidad;
+        int ancho;
+        int alto;
+        int profundidad;
+        try {
+            peso = Double.parseDouble(campos[1].trim());
+            cantidad = Integer.parseInt(campos[2].trim());
+            ancho = Integer.parseInt(campos[3].trim());
+            alto = Integer.parseInt(campos[4].trim());
+            profundidad = Integer.parseInt(campos[5].trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("peso, cantidad y dimensiones deben ser numéricos", e);
+        }
+
+        datos.agregarProducto(nombre, peso, (double) ancho * alto * profundidad, cantidad);
+    }
+
+    private static String nombreSinExtension(Path archivo) {
+        String nombre = archivo.getFileName().toString();
+        int punto = nombre.lastIndexOf('.');
+        return punto > 0 ? nombre.substring(0, punto) : nombre;
+    }
+}
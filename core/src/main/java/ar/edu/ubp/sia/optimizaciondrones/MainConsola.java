@@ -0,0 +1,207 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Punto de entrada sin interfaz gráfica: resuelve uno o más pedidos en la misma JVM
+ * y escribe la salida de {@link ServicioOptimizacion} por consola o en archivos.
+ * No inicializa JavaFX, por lo que puede ejecutarse desde cron o contenedores.
+ *
+ * <pre>
+ * java -cp target/classes ar.edu.ubp.sia.optimizaciondrones.MainConsola [opciones] archivo|directorio...
+ *   --seleccion=Torneo  --cruza="Un Punto"  --mutacion=Simple  --decodificador="Next Fit"
+ *   --poblacion=30  --generaciones=50  --peso-max=17  --volumen-max=150000
+ *   --hilos=N  --islas=1  --migracion=25  --lote=1
+ *   --inicializacion=Aleatoria  --fraccion-heuristica=0.2  --semilla=N
+ *   --sin-mejora=N  --fitness-objetivo=F  --tiempo-max=ms  --salida=directorio
+ *   --metricas=jmx|jfr|jmx,jfr  --flota=nombre:peso:volumen:drones-por-ronda:costo,...
+ *   --busqueda-local=K  --presupuesto-busqueda-local=ms  --busqueda-exacta=unidades
+ * </pre>
+ *
+ * Con {@code --metricas=jmx} las métricas por generación se publican en el MBean
+ * {@code ar.edu.ubp.sia.optimizaciondrones:type=MonitorGeneracion,name=consola}; con
+ * {@code jfr} se emiten como eventos {@link EventoGeneracion} para una grabación de Flight Recorder.
+ */
+public class MainConsola {
+
+    private static final String PREFIJO_OPCION = "--";
+
+    public static void main(String[] args) {
+        Map<String, String> opciones = new HashMap<>();
+        List<Path> entradas = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith(PREFIJO_OPCION)) {
+                int igual = arg.indexOf('=');
+                if (igual < 0) {
+                    salirConError("Opción sin valor: " + arg);
+                }
+                opciones.put(arg.substring(PREFIJO_OPCION.length(), igual), arg.substring(igual + 1));
+            } else {
+                entradas.add(Paths.get(arg));
+            }
+        }
+
+        if (entradas.isEmpty()) {
+            salirConError("Uso: MainConsola [--opcion=valor ...] archivo|directorio...");
+        }
+
+        List<Path> archivos = new ArrayList<>();
+        try {
+            for (Path entrada : entradas) {
+                archivos.addAll(listarArchivos(entrada));
+            }
+        } catch (IOException e) {
+            salirConError("No se pudieron listar los pedidos: " + e.getMessage());
+        }
+
+        Path directorioSalida = opciones.containsKey("salida") ? Paths.get(opciones.get("salida")) : null;
+        List<EscuchaGeneracion> escuchas = crearEscuchasMetricas(opciones.getOrDefault("metricas", ""));
+        int fallidos = 0;
+        for (Path archivo : archivos) {
+            try {
+                resolverPedido(archivo, opciones, directorioSalida, escuchas);
+            } catch (IOException e) {
+                System.err.println("No se pudo leer o escribir " + archivo + ": " + e);
+                fallidos++;
+            } catch (IllegalArgumentException e) {
+                System.err.println("Error en " + archivo + ": " + e.getMessage());
+                fallidos++;
+            }
+        }
+
+        if (fallidos > 0) {
+            System.exit(1);
+        }
+    }
+
+    /** Lee, optimiza y escribe la salida de un único pedido. */
+    private static void resolverPedido(Path archivo, Map<String, String> opciones, Path directorioSalida,
+                                       List<EscuchaGeneracion> escuchas) throws IOException {
+        DatosPedido datos = LectorPedidos.leer(archivo);
+        ConfiguracionAG config = crearConfiguracion(opciones);
+
+        ServicioOptimizacion optimizacion = new ServicioOptimizacion(
+                datos.getVolumenProductos(), datos.getPesosProductos(), datos.getPedido(), config);
+        escuchas.forEach(optimizacion::agregarEscucha);
+        optimizacion.ejecutar();
+        String salida = optimizacion.outputConsola();
+
+        if (directorioSalida == null) {
+            System.out.println("==== " + datos.getNombre() + " ====");
+            System.out.println(salida);
+            return;
+        }
+
+        Files.createDirectories(directorioSalida);
+        Files.writeString(directorioSalida.resolve(datos.getNombre() + ".txt"), salida, StandardCharsets.UTF_8);
+    }
+
+    /** Crea las escuchas de {@code --metricas}, una lista de destinos separados por coma. */
+    private static List<EscuchaGeneracion> crearEscuchasMetricas(String destinos) {
+        List<EscuchaGeneracion> escuchas = new ArrayList<>();
+        for (String destino : destinos.split(",")) {
+            switch (destino.trim()) {
+                case "" -> { }
+                case "jmx" -> escuchas.add(MonitorGeneracion.registrar("consola"));
+                case "jfr" -> escuchas.add(EventoGeneracion.crearEscucha());
+                default -> salirConError("Destino de métricas desconocido: " + destino);
+            }
+        }
+        return escuchas;
+    }
+
+    /** Arma la configuración con los mismos valores por defecto que la interfaz gráfica. */
+    private static ConfiguracionAG crearConfiguracion(Map<String, String> opciones) {
+        ConfiguracionAG config = new ConfiguracionAG(
+                opciones.getOrDefault("seleccion", "Torneo"),
+                opciones.getOrDefault("cruza", "Un Punto"),
+                opciones.getOrDefault("mutacion", "Simple"),
+                entero(opciones, "poblacion", 30),
+                entero(opciones, "generaciones", 50),
+                0.8,
+                0.1,
+                entero(opciones, "peso-max", 17),
+                Double.parseDouble(opciones.getOrDefault("volumen-max", "150000"))
+        );
+        config.setParalelismo(entero(opciones, "hilos", Runtime.getRuntime().availableProcessors()));
+        config.setNumeroIslas(entero(opciones, "islas", 1));
+        config.setIntervaloMigracion(entero(opciones, "migracion", config.getIntervaloMigracion()));
+        config.setGeneracionesSinMejora(entero(opciones, "sin-mejora", 0));
+        config.setFitnessObjetivo(Double.parseDouble(opciones.getOrDefault("fitness-objetivo", "0")));
+        config.setTiempoMaximoMs(entero(opciones, "tiempo-max", 0));
+        config.setUnidadesPorLote(entero(opciones, "lote", 1));
+        config.setTipoDecodificador(opciones.getOrDefault("decodificador", config.getTipoDecodificador()));
+        config.setTipoInicializacion(opciones.getOrDefault("inicializacion", config.getTipoInicializacion()));
+        config.setFraccionInicializacionHeuristica(Double.parseDouble(opciones.getOrDefault("fraccion-heuristica",
+                String.valueOf(config.getFraccionInicializacionHeuristica()))));
+        config.setElitesBusquedaLocal(entero(opciones, "busqueda-local", 0));
+        config.setPresupuestoBusquedaLocalMs(entero(opciones, "presupuesto-busqueda-local",
+                (int) config.getPresupuestoBusquedaLocalMs()));
+        config.setUnidadesBusquedaExacta(entero(opciones, "busqueda-exacta", config.getUnidadesBusquedaExacta()));
+        if (opciones.containsKey("semilla")) {
+            config.setSemilla(Long.parseLong(opciones.get("semilla")));
+        }
+        if (opciones.containsKey("flota")) {
+            config.setFlota(leerFlota(opciones.get("flota")));
+        }
+
+        if (!config.esValida()) {
+            throw new IllegalArgumentException("Configuración inválida: " + config);
+        }
+        return config;
+    }
+
+    /** Lee una flota con un tipo de dron por elemento: {@code nombre:peso:volumen:drones-por-ronda:costo}. */
+    private static Flota leerFlota(String valor) {
+        List<TipoDron> tipos = new ArrayList<>();
+        for (String tipo : valor.split(",")) {
+            String[] campos = tipo.split(":");
+            if (campos.length != 5) {
+                throw new IllegalArgumentException("Tipo de dron inválido, se espera nombre:peso:volumen:drones-por-ronda:costo: " + tipo);
+            }
+            try {
+                tipos.add(new TipoDron(campos[0].trim(), Double.parseDouble(campos[1]), Double.parseDouble(campos[2]),
+                        Integer.parseInt(campos[3]), Double.parseDouble(campos[4])));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Valor numérico inválido en el tipo de dron " + tipo, e);
+            }
+        }
+        return new Flota(tipos);
+    }
+
+    private static int entero(Map<String, String> opciones, String clave, int porDefecto) {
+        String valor = opciones.get(clave);
+        if (valor == null) {
+            return porDefecto;
+        }
+        try {
+            return Integer.parseInt(valor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + clave + " debe ser un entero: " + valor, e);
+        }
+    }
+
+    /** Expande directorios a sus archivos regulares en orden alfabético. */
+    private static List<Path> listarArchivos(Path entrada) throws IOException {
+        if (!Files.isDirectory(entrada)) {
+            return List.of(entrada);
+        }
+        try (Stream<Path> contenido = Files.list(entrada)) {
+            return contenido.filter(Files::isRegularFile).sorted().toList();
+        }
+    }
+
+    private static void salirConError(String mensaje) {
+        System.err.println(mensaje);
+        System.exit(2);
+    }
+}
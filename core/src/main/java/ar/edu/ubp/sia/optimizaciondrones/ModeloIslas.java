@@ -0,0 +1,300 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Ejecuta el algoritmo genético con modelo de islas: varias subpoblaciones evolucionan en
+ * hilos separados y cada cierto número de generaciones envían sus mejores individuos a la
+ * isla siguiente de un anillo.
+ *
+ * <p>El intercambio usa un buzón por isla y un {@link Phaser} como única sincronización:
+ * cada isla publica sus emigrantes, espera a que las demás lleguen a la misma generación y
+ * lee el buzón de la isla anterior. Los buzones alternan entre dos juegos según la paridad
+ * de la migración, así una isla adelantada nunca pisa lo que su vecina todavía no leyó.</p>
+ *
+ * <p>Cada isla aplica por su cuenta los criterios de parada de {@link ConfiguracionAG}. Alcanzar
+ * la aptitud objetivo o el mínimo teórico de viajes en una isla detiene a todas, porque ya no
+ * hay una solución mejor que buscar; el estancamiento sólo detiene a la isla estancada.</p>
+ *
+ * <p>Cada isla recibe un generador derivado de la semilla de la configuración. Con semilla, las
+ * demás islas sólo se enteran de esa parada en los puntos de migración, donde todas comparten
+ * la misma vista, para que el resultado no dependa de la velocidad relativa de los hilos.</p>
+ *
+ * <p>Cancelar el modelo, o interrumpir el hilo que espera el resultado, cancela todas las islas:
+ * cada una cierra la generación en curso y el resultado combina lo encontrado hasta ahí.</p>
+ */
+public class ModeloIslas {
+
+    private final ModeloPedido modelo;
+    private final ConfiguracionAG config;
+    private final List<EscuchaGeneracion> escuchas = new ArrayList<>();
+    private volatile boolean cancelado;
+
+    /**
+     * @param pesosProductos peso unitario por producto
+     * @param volumenProductos volumen unitario por producto
+     * @param pedido cantidad solicitada por producto
+     * @param config parámetros de ejecución; {@code numeroIslas} define la cantidad de hilos
+     */
+    public ModeloIslas(Map<String, Double> pesosProductos,
+                       Map<String, Double> volumenProductos,
+                       Map<String, Integer> pedido,
+                       ConfiguracionAG config) {
+        this(ModeloPedido.compilar(pesosProductos, volumenProductos, pedido, config), config);
+    }
+
+    /**
+     * @param modelo pedido compilado una vez y compartido por todas las islas
+     * @param config parámetros de ejecución; {@code numeroIslas} define la cantidad de hilos
+     */
+    public ModeloIslas(ModeloPedido modelo, ConfiguracionAG config) {
+        this.modelo = modelo;
+        this.config = config;
+    }
+
+    /**
+     * Registra una escucha que recibe el progreso de cada isla por separado, desde el hilo de
+     * la isla; {@link ProgresoGeneracion#getIsla()} indica de cuál se trata.
+     */
+    public void agregarEscucha(EscuchaGeneracion escucha) {
+        escuchas.add(escucha);
+    }
+
+    /** Pide detener todas las islas al terminar su generación en curso. */
+    public void cancelar() {
+        cancelado = true;
+    }
+
+    /**
+     * Evoluciona todas las islas y combina sus resultados.
+     *
+     * @return resultado de la isla con mejor aptitud; el historial guarda, por generación,
+     *         la mejor aptitud entre todas las islas
+     */
+    public ResultadoOptimizacion ejecutar() {
+        int numeroIslas = config.getNumeroIslas();
+        SplittableRandom raiz = config.crearGeneradorRaiz();
+        List<AlgoritmoGenetico> islas = new ArrayList<>(numeroIslas);
+        for (int i = 0; i < numeroIslas; i++) {
+            islas.add(crearIsla(i, raiz.split()));
+        }
+
+        AtomicReferenceArray<List<Cromosoma>> buzones = new AtomicReferenceArray<>(2 * numeroIslas);
+        Phaser sincronizador = new Phaser(numeroIslas);
+        ParadaGlobal paradaGlobal = new ParadaGlobal();
+        ExecutorService hilos = Executors.newFixedThreadPool(numeroIslas);
+        boolean interrumpido = false;
+        try {
+            List<Future<?>> tareas = new ArrayList<>(numeroIslas);
+            for (int i = 0; i < numeroIslas; i++) {
+                int indice = i;
+                tareas.add(hilos.submit(() -> evolucionarIsla(islas, indice, buzones, sincronizador, paradaGlobal)));
+            }
+            for (Future<?> tarea : tareas) {
+                // Una interrupción cancela las islas, que terminan su generación y devuelven lo encontrado.
+                while (true) {
+                    try {
+                        tarea.get();
+                        break;
+                    } catch (InterruptedException e) {
+                        interrumpido = true;
+                        cancelar();
+                    }
+                }
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falló la evolución de una isla", e.getCause());
+        } finally {
+            hilos.shutdownNow();
+            if (interrumpido) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        return combinarResultados(islas, paradaGlobal.getCriterio());
+    }
+
+    /** Ciclo evolutivo de una isla, con migración en anillo cada {@code intervaloMigracion}. */
+    private void evolucionarIsla(List<AlgoritmoGenetico> islas, int indice,
+                                 AtomicReferenceArray<List<Cromosoma>> buzones, Phaser sincronizador,
+                                 ParadaGlobal paradaGlobal) {
+        int numeroIslas = islas.size();
+        AlgoritmoGenetico isla = islas.get(indice);
+        int origen = (indice + numeroIslas - 1) % numeroIslas;
+        boolean reproducible = config.getSemilla() != null;
+        try {
+            isla.inicializar();
+            int gen = 0;
+            while (true) {
+                if (cancelado) {
+                    isla.cancelar();
+                }
+                if (!reproducible) {
+                    observarParada(isla, paradaGlobal.getCriterio());
+                }
+                CriterioParada criterio = isla.verificarParada();
+                if (criterio != null) {
+                    if (criterio == CriterioParada.FITNESS_OBJETIVO || criterio == CriterioParada.MINIMO_TEORICO) {
+                        paradaGlobal.registrar(criterio, gen);
+                    }
+                    return;
+                }
+
+                isla.avanzarGeneracion();
+                gen++;
+
+                if (numeroIslas > 1 && config.getCantidadMigrantes() > 0
+                        && gen % config.getIntervaloMigracion() == 0
+                        && gen < config.getNumeroGeneraciones()) {
+                    int juego = (gen / config.getIntervaloMigracion()) % 2 * numeroIslas;
+                    buzones.set(juego + indice, isla.seleccionarEmigrantes(config.getCantidadMigrantes()));
+                    sincronizador.arriveAndAwaitAdvance();
+                    List<Cromosoma> inmigrantes = buzones.get(juego + origen);
+                    if (inmigrantes != null) {
+                        isla.recibirInmigrantes(inmigrantes);
+                    }
+                    if (reproducible) {
+                        // Una parada de la generación actual se registra después de esta barrera.
+                        observarParada(isla, paradaGlobal.getCriterioAntesDe(gen));
+                    }
+                }
+            }
+        } finally {
+            sincronizador.arriveAndDeregister();
+        }
+    }
+
+    private static void observarParada(AlgoritmoGenetico isla, CriterioParada global) {
+        if (global != null) {
+            isla.detener(global);
+        }
+    }
+
+    /**
+     * Crea la isla con los operadores configurados. Si las islas son heterogéneas, cada isla
+     * siguiente recorre las combinaciones de {@link FabricaOperadores} variando primero la
+     * selección, luego la cruza y por último la mutación.
+     */
+    private AlgoritmoGenetico crearIsla(int indice, SplittableRandom generador) {
+        String seleccion = config.getTipoSeleccion();
+        String cruza = config.getTipoCruza();
+        String mutacion = config.getTipoMutacion();
+
+        if (config.isIslasHeterogeneas() && indice > 0) {
+            seleccion = rotar(FabricaOperadores.TIPOS_SELECCION, seleccion, indice);
+            cruza = rotar(FabricaOperadores.TIPOS_CRUZA, cruza, indice / FabricaOperadores.TIPOS_SELECCION.size());
+            mutacion = rotar(FabricaOperadores.TIPOS_MUTACION, mutacion,
+                    indice / (FabricaOperadores.TIPOS_SELECCION.size() * FabricaOperadores.TIPOS_CRUZA.size()));
+        }
+
+        AlgoritmoGenetico isla = new AlgoritmoGenetico(modelo, config,
+                FabricaOperadores.crearSeleccion(seleccion, generador.split()),
+                FabricaOperadores.crearCruza(cruza, generador.split()),
+                FabricaOperadores.crearMutacion(mutacion, generador.split()),
+                generador.split());
+        isla.setIndiceIsla(indice);
+        for (EscuchaGeneracion escucha : escuchas) {
+            isla.agregarEscucha(escucha);
+        }
+        return isla;
+    }
+
+    private static String rotar(List<String> tipos, String base, int desplazamiento) {
+        int inicio = Math.max(0, tipos.indexOf(base));
+        return tipos.get((inicio + desplazamiento) % tipos.size());
+    }
+
+    private ResultadoOptimizacion combinarResultados(List<AlgoritmoGenetico> islas, CriterioParada paradaGlobal) {
+        AlgoritmoGenetico mejorIsla = islas.get(0);
+        for (AlgoritmoGenetico isla : islas) {
+            if (isla.getMejorGlobal().getFitness() > mejorIsla.getMejorGlobal().getFitness()) {
+                mejorIsla = isla;
+            }
+        }
+
+        int generaciones = 0;
+        long aciertos = 0;
+        long fallos = 0;
+        boolean cancelada = false;
+        for (AlgoritmoGenetico isla : islas) {
+            cancelada |= isla.verificarParada() == CriterioParada.CANCELADA;
+            generaciones = Math.max(generaciones, isla.getHistorialFitness().size());
+            aciertos += isla.getAciertosCacheFitness();
+            fallos += isla.getFallosCacheFitness();
+        }
+
+        // Una isla que se detuvo antes aporta su última aptitud al resto del historial.
+        List<Double> historial = new ArrayList<>(generaciones);
+        for (int gen = 0; gen < generaciones; gen++) {
+            double mejorGeneracion = 0.0;
+            for (AlgoritmoGenetico isla : islas) {
+                List<Double> propio = isla.getHistorialFitness();
+                if (!propio.isEmpty()) {
+                    mejorGeneracion = Math.max(mejorGeneracion, propio.get(Math.min(gen, propio.size() - 1)));
+                }
+            }
+            historial.add(mejorGeneracion);
+        }
+        List<Integer> historialViajes = new ArrayList<>(generaciones);
+        for (int gen = 0; gen < generaciones; gen++) {
+            int menosViajes = Integer.MAX_VALUE;
+            for (AlgoritmoGenetico isla : islas) {
+                List<Integer> propio = isla.getHistorialViajes();
+                if (!propio.isEmpty()) {
+                    menosViajes = Math.min(menosViajes, propio.get(Math.min(gen, propio.size() - 1)));
+                }
+            }
+            historialViajes.add(menosViajes);
+        }
+
+        ResultadoOptimizacion resultado = mejorIsla.construirResultado();
+        resultado.setGeneracionesEjecutadas(generaciones);
+        if (paradaGlobal != null) {
+            resultado.setCriterioParada(paradaGlobal);
+        } else if (cancelada) {
+            resultado.setCriterioParada(CriterioParada.CANCELADA);
+        }
+        resultado.setHistorialFitness(historial);
+        resultado.setHistorialViajes(historialViajes);
+        resultado.setAciertosCacheFitness(aciertos);
+        resultado.setFallosCacheFitness(fallos);
+        return resultado;
+    }
+
+    /**
+     * Primera parada que detiene a todas las islas. Ante paradas en la misma generación conserva
+     * el criterio declarado primero en {@link CriterioParada}, así el valor final no depende de
+     * qué hilo llegó antes.
+     */
+    private static final class ParadaGlobal {
+
+        private CriterioParada criterio;
+        private int generacion = Integer.MAX_VALUE;
+
+        synchronized void registrar(CriterioParada criterio, int generacion) {
+            if (generacion < this.generacion
+                    || (generacion == this.generacion && criterio.ordinal() < this.criterio.ordinal())) {
+                this.criterio = criterio;
+                this.generacion = generacion;
+            }
+        }
+
+        synchronized CriterioParada getCriterio() {
+            return criterio;
+        }
+
+        /** @return criterio registrado en una generación anterior a {@code generacion}, o {@code null} */
+        synchronized CriterioParada getCriterioAntesDe(int generacion) {
+            return this.generacion < generacion ? criterio : null;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Pedido compilado a tablas primitivas indexadas por id de gen: peso y volumen unitario,
+ * unidades que representa cada gen y cantidad de genes de cada id en un cromosoma válido, junto
+ * con los totales del pedido y sus cotas inferiores de viajes, calculadas con {@link CotasViajes}.
+ * Se arma una vez por pedido, así la evolución no vuelve a consultar los mapas por producto, y se
+ * comparte sin copiar entre el algoritmo, el evaluador, la búsqueda local y las islas.
+ * <p>
+ * Cada producto aporta un id de gen para sus lotes completos y otro para el lote con las unidades
+ * restantes; con un lote de una unidad hay un id por producto. Es inmutable: las tablas que
+ * devuelven los métodos de paquete son las internas y no deben modificarse.
+ */
+public final class ModeloPedido {
+
+    private final String[] productoPorGen;
+    private final double[] pesoPorGen;
+    private final double[] volumenPorGen;
+    private final int[] unidadesPorGen;
+    private final int[] cantidadPorGen;
+    private final boolean porLotes;
+    private final int longitudCromosoma;
+    private final Flota flota;
+    private final long unidadesTotales;
+    private final double pesoTotal;
+    private final double volumenTotal;
+    private final int viajesMinimosPeso;
+    private final int viajesMinimosVolumen;
+    private final int viajesMinimosCombinados;
+
+    private ModeloPedido(String[] productoPorGen, double[] pesoPorGen, double[] volumenPorGen,
+                         int[] unidadesPorGen, int[] cantidadPorGen, boolean porLotes, Flota flota) {
+        this.productoPorGen = productoPorGen;
+        this.pesoPorGen = pesoPorGen;
+        this.volumenPorGen = volumenPorGen;
+        this.unidadesPorGen = unidadesPorGen;
+        this.cantidadPorGen = cantidadPorGen;
+        this.porLotes = porLotes;
+        this.flota = flota;
+
+        int longitud = 0;
+        long unidades = 0;
+        double pesoAcumulado = 0.0;
+        double volumenAcumulado = 0.0;
+        long[] unidadesPorId = new long[cantidadPorGen.length];
+        for (int gen = 0; gen < cantidadPorGen.length; gen++) {
+            long unidadesGen = (long) cantidadPorGen[gen] * unidadesPorGen[gen];
+            unidadesPorId[gen] = unidadesGen;
+            longitud += cantidadPorGen[gen];
+            unidades += unidadesGen;
+            pesoAcumulado += pesoPorGen[gen] * unidadesGen;
+            volumenAcumulado += volumenPorGen[gen] * unidadesGen;
+        }
+        this.longitudCromosoma = longitud;
+        this.unidadesTotales = unidades;
+        this.pesoTotal = pesoAcumulado;
+        this.volumenTotal = volumenAcumulado;
+        // Con varios tipos de dron las cotas usan la mayor capacidad de cada dimensión.
+        this.viajesMinimosPeso = CotasViajes.martelloToth(pesoPorGen, unidadesPorId, flota.getPesoMaximo());
+        this.viajesMinimosVolumen = CotasViajes.martelloToth(volumenPorGen, unidadesPorId, flota.getVolumenMaximo());
+        this.viajesMinimosCombinados = CotasViajes.combinada(pesoPorGen, volumenPorGen, unidadesPorId,
+                flota.getPesoMaximo(), flota.getVolumenMaximo());
+    }
+
+    /** @return modelo del pedido con las unidades por lote y la flota de la configuración */
+    public static ModeloPedido compilar(Map<String, Double> pesosProductos, Map<String, Double> volumenProductos,
+                                        Map<String, Integer> pedido, ConfiguracionAG config) {
+        return compilar(pesosProductos, volumenProductos, pedido, config.getUnidadesPorLote(), config.getFlota());
+    }
+
+    /**
+     * @param pesosProductos peso unitario por producto
+     * @param volumenProductos volumen unitario por producto
+     * @param pedido cantidad solicitada por producto; los productos con cantidad 0 no generan genes
+     * @param unidadesPorLote unidades de un mismo producto que representa cada gen
+     * @param flota drones disponibles, para las cotas de viajes
+     * @throws IllegalArgumentException si un producto no tiene peso o volumen, o una cantidad es negativa
+     */
+    public static ModeloPedido compilar(Map<String, Double> pesosProductos, Map<String, Double> volumenProductos,
+                                        Map<String, Integer> pedido, int unidadesPorLote, Flota flota) {
+        if (unidadesPorLote <= 0) {
+            throw new IllegalArgumentException("Las unidades por lote deben ser positivas: " + unidadesPorLote);
+        }
+        int tipos = 0;
+        for (Map.Entry<String, Integer> item : pedido.entrySet()) {
+            Integer cantidad = item.getValue();
+            if (cantidad == null || cantidad < 0) {
+                throw new IllegalArgumentException("Cantidad inválida para " + item.getKey() + ": " + cantidad);
+            }
+            if (pesosProductos.get(item.getKey()) == null || volumenProductos.get(item.getKey()) == null) {
+                throw new IllegalArgumentException("Producto sin peso o volumen: " + item.getKey());
+            }
+            tipos += (cantidad / unidadesPorLote > 0 ? 1 : 0) + (cantidad % unidadesPorLote > 0 ? 1 : 0);
+        }
+
+        String[] productoPorGen = new String[tipos];
+        double[] pesoPorGen = new double[tipos];
+        double[] volumenPorGen = new double[tipos];
+        int[] unidadesPorGen = new int[tipos];
+        int[] cantidadPorGen = new int[tipos];
+        int id = 0;
+        for (Map.Entry<String, Integer> item : pedido.entrySet()) {
+            int cantidad = item.getValue();
+            int[] lotes = {cantidad / unidadesPorLote, cantidad % unidadesPorLote > 0 ? 1 : 0};
+            int[] unidades = {unidadesPorLote, cantidad % unidadesPorLote};
+            for (int i = 0; i < lotes.length; i++) {
+                if (lotes[i] > 0) {
+                    productoPorGen[id] = item.getKey();
+                    pesoPorGen[id] = pesosProductos.get(item.getKey());
+                    volumenPorGen[id] = volumenProductos.get(item.getKey());
+                    unidadesPorGen[id] = unidades[i];
+                    cantidadPorGen[id++] = lotes[i];
+                }
+            }
+        }
+        return new ModeloPedido(productoPorGen, pesoPorGen, volumenPorGen, unidadesPorGen, cantidadPorGen,
+                unidadesPorLote > 1, flota);
+    }
+
+    /**
+     * Modelo sobre tablas ya indexadas por id de gen, sin nombres de producto, como las que
+     * reciben los constructores de {@link EvaluadorFitness}.
+     *
+     * @param unidadesPorGen unidades que representa cada gen, o {@code null} si es una
+     */
+    static ModeloPedido desdeTablas(double[] pesoPorGen, double[] volumenPorGen, int[] cantidadPorGen,
+                                    int[] unidadesPorGen, Flota flota) {
+        int[] unidades = unidadesPorGen;
+        if (unidades == null) {
+            unidades = new int[pesoPorGen.length];
+            Arrays.fill(unidades, 1);
+        }
+        return new ModeloPedido(new String[pesoPorGen.length], pesoPorGen, volumenPorGen, unidades, cantidadPorGen,
+                unidadesPorGen != null, flota);
+    }
+
+    /** @return nombre del producto de cada id de gen; {@code null} en modelos armados desde tablas */
+    String[] getProductoPorGen() {
+        return productoPorGen;
+    }
+
+    double[] getPesoPorGen() {
+        return pesoPorGen;
+    }
+
+    double[] getVolumenPorGen() {
+        return volumenPorGen;
+    }
+
+    int[] getUnidadesPorGen() {
+        return unidadesPorGen;
+    }
+
+    int[] getCantidadPorGen() {
+        return cantidadPorGen;
+    }
+
+    /** @return true si algún gen puede representar más de una unidad */
+    public boolean isPorLotes() {
+        return porLotes;
+    }
+
+    /** @return cantidad de ids de gen distintos */
+    public int getCantidadTiposGen() {
+        return pesoPorGen.length;
+    }
+
+    /** @return cantidad de genes de un cromosoma que cubre el pedido */
+    public int getLongitudCromosoma() {
+        return longitudCromosoma;
+    }
+
+    public Flota getFlota() {
+        return flota;
+    }
+
+    public long getUnidadesTotales() {
+        return unidadesTotales;
+    }
+
+    public double getPesoTotal() {
+        return pesoTotal;
+    }
+
+    public double getVolumenTotal() {
+        return volumenTotal;
+    }
+
+    /** @return cota L2 de viajes considerando sólo el peso */
+    public int getViajesMinimosPeso() {
+        return viajesMinimosPeso;
+    }
+
+    /** @return cota L2 de viajes considerando sólo el volumen */
+    public int getViajesMinimosVolumen() {
+        return viajesMinimosVolumen;
+    }
+
+    /** @return cota L2 de viajes sobre tamaños que combinan peso y volumen */
+    public int getViajesMinimosCombinados() {
+        return viajesMinimosCombinados;
+    }
+
+    /** @return cota inferior de viajes: ninguna secuencia cubre el pedido con menos */
+    public int getViajesMinimosTeoricos() {
+        return Math.max(viajesMinimosCombinados, Math.max(viajesMinimosPeso, viajesMinimosVolumen));
+    }
+
+    /**
+     * @param viajes viajes de una solución que cubre el pedido
+     * @return distancia relativa a la cota inferior, (viajes - cota) / cota; 0 prueba que la solución es óptima
+     */
+    public double brechaOptimalidad(int viajes) {
+        int cota = getViajesMinimosTeoricos();
+        return cota > 0 ? (double) (viajes - cota) / cota : 0.0;
+    }
+}
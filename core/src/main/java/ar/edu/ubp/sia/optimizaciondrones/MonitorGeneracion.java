@@ -0,0 +1,171 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Escucha que publica las métricas por generación como MBean de la plataforma, para verlas
+ * con JConsole, VisualVM o cualquier cliente JMX mientras el proceso corre.
+ * <p>
+ * Una misma instancia puede escuchar varias ejecuciones e islas a la vez: guarda la última
+ * generación recibida y acumula los totales sin bloquear a los hilos de la evolución.
+ */
+public class MonitorGeneracion implements EscuchaGeneracion, MonitorGeneracionMXBean {
+
+    /** Dominio de los nombres JMX de los monitores. */
+    public static final String DOMINIO_JMX = "ar.edu.ubp.sia.optimizaciondrones";
+
+    private static final ProgresoGeneracion SIN_PROGRESO = new ProgresoGeneracion(0, 0);
+
+    private volatile ProgresoGeneracion ultimo = SIN_PROGRESO;
+    private final LongAdder generaciones = new LongAdder();
+    private final LongAdder aciertosCache = new LongAdder();
+    private final LongAdder fallosCache = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+    private final LongAdder bytesAsignados = new LongAdder();
+    private ObjectName nombreJmx;
+
+    /**
+     * Crea un monitor y lo registra en el servidor de MBeans de la plataforma como
+     * {@code ar.edu.ubp.sia.optimizaciondrones:type=MonitorGeneracion,name=<nombre>}.
+     *
+     * @throws IllegalArgumentException si el nombre no es válido o ya está registrado
+     */
+    public static MonitorGeneracion registrar(String nombre) {
+        MonitorGeneracion monitor = new MonitorGeneracion();
+        try {
+            ObjectName nombreJmx = new ObjectName(DOMINIO_JMX + ":type=MonitorGeneracion,name=" + ObjectName.quote(nombre));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(monitor, nombreJmx);
+            monitor.nombreJmx = nombreJmx;
+        } catch (JMException e) {
+            throw new IllegalArgumentException("No se pudo registrar el monitor JMX " + nombre, e);
+        }
+        return monitor;
+    }
+
+    /** Quita el monitor del servidor de MBeans, si estaba registrado. */
+    public void desregistrar() {
+        if (nombreJmx == null) {
+            return;
+        }
+        MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+        try {
+            if (servidor.isRegistered(nombreJmx)) {
+                servidor.unregisterMBean(nombreJmx);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("No se pudo quitar el monitor JMX " + nombreJmx, e);
+        }
+        nombreJmx = null;
+    }
+
+    @Override
+    public void generacionCompletada(ProgresoGeneracion progreso) {
+        ultimo = progreso;
+        generaciones.increment();
+        aciertosCache.add(progreso.getAciertosCache());
+        fallosCache.add(progreso.getFallosCache());
+        nanos.add(progreso.getNanosTotales());
+        if (progreso.getBytesAsignados() > 0) {
+            bytesAsignados.add(progreso.getBytesAsignados());
+        }
+    }
+
+    @Override
+    public int getIsla() {
+        return ultimo.getIsla();
+    }
+
+    @Override
+    public int getGeneracion() {
+        return ultimo.getGeneracion();
+    }
+
+    @Override
+    public double getMejorAptitud() {
+        return ultimo.getMejorAptitud();
+    }
+
+    @Override
+    public double getAptitudPromedio() {
+        return ultimo.getAptitudPromedio();
+    }
+
+    @Override
+    public double getPeorAptitud() {
+        return ultimo.getPeorAptitud();
+    }
+
+    @Override
+    public double getDiversidad() {
+        return ultimo.getDiversidad();
+    }
+
+    @Override
+    public long getNanosSeleccion() {
+        return ultimo.getNanosSeleccion();
+    }
+
+    @Override
+    public long getNanosCruza() {
+        return ultimo.getNanosCruza();
+    }
+
+    @Override
+    public long getNanosMutacion() {
+        return ultimo.getNanosMutacion();
+    }
+
+    @Override
+    public long getNanosEvaluacion() {
+        return ultimo.getNanosEvaluacion();
+    }
+
+    @Override
+    public long getNanosOrdenamiento() {
+        return ultimo.getNanosOrdenamiento();
+    }
+
+    @Override
+    public long getNanosBusquedaLocal() {
+        return ultimo.getNanosBusquedaLocal();
+    }
+
+    @Override
+    public int getMejorasBusquedaLocal() {
+        return ultimo.getMejorasBusquedaLocal();
+    }
+
+    @Override
+    public long getBytesAsignados() {
+        return ultimo.getBytesAsignados();
+    }
+
+    @Override
+    public long getGeneracionesCompletadas() {
+        return generaciones.sum();
+    }
+
+    @Override
+    public long getAciertosCacheTotales() {
+        return aciertosCache.sum();
+    }
+
+    @Override
+    public long getFallosCacheTotales() {
+        return fallosCache.sum();
+    }
+
+    @Override
+    public long getNanosTotales() {
+        return nanos.sum();
+    }
+
+    @Override
+    public long getBytesAsignadosTotales() {
+        return bytesAsignados.sum();
+    }
+}
@@ -0,0 +1,46 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+/**
+ * Atributos JMX de {@link MonitorGeneracion}: la última generación informada por cualquier
+ * isla y los totales acumulados desde que se registró el monitor.
+ */
+public interface MonitorGeneracionMXBean {
+
+    int getIsla();
+
+    int getGeneracion();
+
+    double getMejorAptitud();
+
+    double getAptitudPromedio();
+
+    double getPeorAptitud();
+
+    double getDiversidad();
+
+    long getNanosSeleccion();
+
+    long getNanosCruza();
+
+    long getNanosMutacion();
+
+    long getNanosEvaluacion();
+
+    long getNanosOrdenamiento();
+
+    long getNanosBusquedaLocal();
+
+    int getMejorasBusquedaLocal();
+
+    long getBytesAsignados();
+
+    long getGeneracionesCompletadas();
+
+    long getAciertosCacheTotales();
+
+    long getFallosCacheTotales();
+
+    long getNanosTotales();
+
+    long getBytesAsignadosTotales();
+}
@@ -0,0 +1,16 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+/**
+ * Interface para operador de mutación
+ */
+public interface Mutacion {
+    void mutar(Cromosoma cromosoma);
+
+    /**
+     * Se invoca una vez, antes de la primera llamada a {@link #mutar(Cromosoma)}, con el pedido
+     * que se va a evolucionar. Las estrategias que eligen valores de gen toman de aquí los ids
+     * válidos; por defecto no hace nada.
+     */
+    default void prepararPedido(ModeloPedido modelo) {
+    }
+}
@@ -0,0 +1,33 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+public class MutacionIntercambio implements Mutacion {
+
+    private final RandomGenerator random;
+
+    public MutacionIntercambio() {
+        this(new SplittableRandom());
+    }
+
+    /** @param random generador de números aleatorios del operador */
+    public MutacionIntercambio(RandomGenerator random) {
+        this.random = random;
+    }
+
+    @Override
+    public void mutar(Cromosoma cromosoma) {
+        int longitud = cromosoma.getLongitud();
+
+        if (longitud < 2) return;
+
+        int pos1 = random.nextInt(longitud);
+        int pos2;
+        do {
+            pos2 = random.nextInt(longitud);
+        } while (pos2 == pos1);
+
+        cromosoma.intercambiarGenes(pos1, pos2);
+    }
+}
@@ -1,14 +1,24 @@
 package ar.edu.ubp.sia.optimizaciondrones;
 
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 public class MutacionInversion implements Mutacion {
 
-    private final Random random = new Random();
+    private final RandomGenerator random;
+
+    public MutacionInversion() {
+        this(new SplittableRandom());
+    }
+
+    /** @param random generador de números aleatorios del operador */
+    public MutacionInversion(RandomGenerator random) {
+        this.random = random;
+    }
 
     @Override
     public void mutar(Cromosoma cromosoma) {
-        int longitud = cromosoma.getGenes().length;
+        int longitud = cromosoma.getLongitud();
 
         if (longitud < 2) return;
 
@@ -21,12 +31,8 @@ public class MutacionInversion implements Mutacion {
             fin = temp;
         }
 
-        int[] genes = cromosoma.getGenes();
-
         while (inicio < fin) {
-            int temp = genes[inicio];
-            cromosoma.setGene(inicio, genes[fin]);
-            cromosoma.setGene(fin, temp);
+            cromosoma.intercambiarGenes(inicio, fin);
             inicio++;
             fin--;
         }
@@ -0,0 +1,49 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Mutación puntual que reemplaza un gen por otro id de gen del pedido. Los ids válidos van de 0
+ * a {@link ModeloPedido#getCantidadTiposGen()}, que con lotes puede ser mayor o menor que la
+ * longitud del cromosoma; sin un pedido preparado se usa la longitud.
+ */
+public class MutacionSimple implements Mutacion {
+
+    private final RandomGenerator random;
+    private int cantidadTiposGen;
+
+    public MutacionSimple() {
+        this(new SplittableRandom());
+    }
+
+    /** @param random generador de números aleatorios del operador */
+    public MutacionSimple(RandomGenerator random) {
+        this.random = random;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void prepararPedido(ModeloPedido modelo) {
+        this.cantidadTiposGen = modelo.getCantidadTiposGen();
+    }
+
+    /** {@inheritDoc} Con menos de dos ids de gen no hay otro valor posible y no hace nada. */
+    @Override
+    public void mutar(Cromosoma cromosoma) {
+        int longitud = cromosoma.getLongitud();
+        int tipos = cantidadTiposGen > 0 ? cantidadTiposGen : longitud;
+        if (longitud == 0 || tipos < 2) {
+            return;
+        }
+
+        int posicion = random.nextInt(longitud);
+        int actual = cromosoma.getGene(posicion);
+        int nuevoGen;
+        do {
+            nuevoGen = random.nextInt(tipos);
+        } while (nuevoGen == actual);
+
+        cromosoma.setGene(posicion, nuevoGen);
+    }
+}
@@ -0,0 +1,64 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Almacén de población con doble buffer: dos arreglos planos {@code int[tamano * longitud]}
+ * con un {@link Cromosoma} vista por cada tramo. La generación siguiente se escribe sobre el
+ * buffer libre y luego se intercambian, así el ciclo evolutivo no crea cromosomas ni arreglos
+ * de genes en régimen.
+ * <p>
+ * Ordenar la población reordena las vistas, no los genes; cada vista sigue apuntando a su tramo.
+ */
+class PoblacionBuffer {
+
+    private final int tamano;
+    private final int longitud;
+    private Cromosoma[] actual;
+    private Cromosoma[] siguiente;
+    private List<Cromosoma> vistaActual;
+    private List<Cromosoma> vistaSiguiente;
+
+    /**
+     * @param tamano cantidad de individuos por generación
+     * @param longitud genes por individuo
+     */
+    PoblacionBuffer(int tamano, int longitud) {
+        this.tamano = tamano;
+        this.longitud = longitud;
+        this.actual = crearVistas(new int[tamano * longitud]);
+        this.siguiente = crearVistas(new int[tamano * longitud]);
+        this.vistaActual = Arrays.asList(actual);
+        this.vistaSiguiente = Arrays.asList(siguiente);
+    }
+
+    private Cromosoma[] crearVistas(int[] buffer) {
+        Cromosoma[] vistas = new Cromosoma[tamano];
+        for (int i = 0; i < tamano; i++) {
+            vistas[i] = new Cromosoma(buffer, i * longitud, longitud);
+        }
+        return vistas;
+    }
+
+    /** @return generación actual, de tamaño fijo; admite ordenarse pero no reemplazar elementos. */
+    List<Cromosoma> getActual() {
+        return vistaActual;
+    }
+
+    /** @return individuo {@code indice} del buffer donde se escribe la próxima generación. */
+    Cromosoma getSiguiente(int indice) {
+        return siguiente[indice];
+    }
+
+    /** Convierte la generación escrita en actual; la anterior pasa a ser el buffer libre. */
+    void intercambiar() {
+        Cromosoma[] auxiliar = actual;
+        actual = siguiente;
+        siguiente = auxiliar;
+
+        List<Cromosoma> vistaAuxiliar = vistaActual;
+        vistaActual = vistaSiguiente;
+        vistaSiguiente = vistaAuxiliar;
+    }
+}
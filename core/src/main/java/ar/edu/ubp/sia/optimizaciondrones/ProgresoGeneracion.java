@@ -0,0 +1,191 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+/**
+ * Estado y métricas de una generación, tal como los recibe {@link EscuchaGeneracion}.
+ * Los tiempos se miden en nanosegundos dentro de {@link AlgoritmoGenetico}; la selección incluye
+ * la preparación de la tabla de probabilidades y el ordenamiento incluye el de antes de elegir
+ * al elitista, que sólo trabaja si una migración desordenó la población.
+ */
+public final class ProgresoGeneracion {
+
+    private final int isla;
+    private final int generacion;
+    private double mejorAptitud;
+    private double mejorAptitudGeneracion;
+    private double aptitudPromedio;
+    private double peorAptitud;
+    private double diversidad;
+    private long nanosSeleccion;
+    private long nanosCruza;
+    private long nanosMutacion;
+    private long nanosEvaluacion;
+    private long nanosOrdenamiento;
+    private long nanosBusquedaLocal;
+    private int mejorasBusquedaLocal;
+    private long aciertosCache;
+    private long fallosCache;
+    private long bytesAsignados = -1;
+
+    /**
+     * @param isla índice de la isla que evolucionó la generación, 0 sin modelo de islas
+     * @param generacion generación completada, numerada desde 1 como el historial de fitness
+     */
+    ProgresoGeneracion(int isla, int generacion) {
+        this.isla = isla;
+        this.generacion = generacion;
+    }
+
+    public int getIsla() {
+        return isla;
+    }
+
+    public int getGeneracion() {
+        return generacion;
+    }
+
+    /** @return mejor aptitud vista desde el inicio de la ejecución */
+    public double getMejorAptitud() {
+        return mejorAptitud;
+    }
+
+    void setMejorAptitud(double mejorAptitud) {
+        this.mejorAptitud = mejorAptitud;
+    }
+
+    /** @return mejor aptitud de la población de esta generación */
+    public double getMejorAptitudGeneracion() {
+        return mejorAptitudGeneracion;
+    }
+
+    void setMejorAptitudGeneracion(double mejorAptitudGeneracion) {
+        this.mejorAptitudGeneracion = mejorAptitudGeneracion;
+    }
+
+    public double getAptitudPromedio() {
+        return aptitudPromedio;
+    }
+
+    void setAptitudPromedio(double aptitudPromedio) {
+        this.aptitudPromedio = aptitudPromedio;
+    }
+
+    public double getPeorAptitud() {
+        return peorAptitud;
+    }
+
+    void setPeorAptitud(double peorAptitud) {
+        this.peorAptitud = peorAptitud;
+    }
+
+    /** @return proporción de cromosomas distintos en la población, entre 0 y 1 */
+    public double getDiversidad() {
+        return diversidad;
+    }
+
+    void setDiversidad(double diversidad) {
+        this.diversidad = diversidad;
+    }
+
+    public long getNanosSeleccion() {
+        return nanosSeleccion;
+    }
+
+    void setNanosSeleccion(long nanosSeleccion) {
+        this.nanosSeleccion = nanosSeleccion;
+    }
+
+    public long getNanosCruza() {
+        return nanosCruza;
+    }
+
+    void setNanosCruza(long nanosCruza) {
+        this.nanosCruza = nanosCruza;
+    }
+
+    public long getNanosMutacion() {
+        return nanosMutacion;
+    }
+
+    void setNanosMutacion(long nanosMutacion) {
+        this.nanosMutacion = nanosMutacion;
+    }
+
+    public long getNanosEvaluacion() {
+        return nanosEvaluacion;
+    }
+
+    void setNanosEvaluacion(long nanosEvaluacion) {
+        this.nanosEvaluacion = nanosEvaluacion;
+    }
+
+    public long getNanosOrdenamiento() {
+        return nanosOrdenamiento;
+    }
+
+    void setNanosOrdenamiento(long nanosOrdenamiento) {
+        this.nanosOrdenamiento = nanosOrdenamiento;
+    }
+
+    /** @return nanosegundos de la búsqueda local sobre los mejores individuos, 0 si está desactivada */
+    public long getNanosBusquedaLocal() {
+        return nanosBusquedaLocal;
+    }
+
+    void setNanosBusquedaLocal(long nanosBusquedaLocal) {
+        this.nanosBusquedaLocal = nanosBusquedaLocal;
+    }
+
+    /** @return individuos que la búsqueda local reemplazó por uno de mejor aptitud */
+    public int getMejorasBusquedaLocal() {
+        return mejorasBusquedaLocal;
+    }
+
+    void setMejorasBusquedaLocal(int mejorasBusquedaLocal) {
+        this.mejorasBusquedaLocal = mejorasBusquedaLocal;
+    }
+
+    /** @return evaluaciones de esta generación resueltas por la caché de fitness */
+    public long getAciertosCache() {
+        return aciertosCache;
+    }
+
+    void setAciertosCache(long aciertosCache) {
+        this.aciertosCache = aciertosCache;
+    }
+
+    /** @return evaluaciones de esta generación que requirieron decodificar */
+    public long getFallosCache() {
+        return fallosCache;
+    }
+
+    void setFallosCache(long fallosCache) {
+        this.fallosCache = fallosCache;
+    }
+
+    /**
+     * Bytes asignados en el hilo de la evolución durante la generación. No incluye lo que
+     * asignan los hilos del pool de evaluación paralela.
+     *
+     * @return bytes asignados, o -1 si la JVM no mide asignaciones por hilo
+     */
+    public long getBytesAsignados() {
+        return bytesAsignados;
+    }
+
+    void setBytesAsignados(long bytesAsignados) {
+        this.bytesAsignados = bytesAsignados;
+    }
+
+    /** @return nanosegundos sumados de todas las fases medidas */
+    public long getNanosTotales() {
+        return nanosSeleccion + nanosCruza + nanosMutacion + nanosEvaluacion + nanosOrdenamiento + nanosBusquedaLocal;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ProgresoGeneracion[isla=%d, generacion=%d, mejor=%.4f, promedio=%.4f, peor=%.4f, "
+                        + "diversidad=%.2f, nanos=%d, aciertosCache=%d, bytes=%d]",
+                isla, generacion, mejorAptitud, aptitudPromedio, peorAptitud, diversidad, getNanosTotales(),
+                aciertosCache, bytesAsignados);
+    }
+}
@@ -13,8 +13,14 @@ public class ResultadoOptimizacion {
     private int generacionMejor;
     private int generacionesEjecutadas;
     private long tiempoEjecucion;
+    private CriterioParada criterioParada = CriterioParada.GENERACIONES;
     private List<Double> historialFitness = new ArrayList<>();
+    private List<Integer> historialViajes = new ArrayList<>();
+    private int cotaViajes;
     private ConfiguracionAG configuracion;
+    private long aciertosCacheFitness;
+    private long fallosCacheFitness;
+    private boolean desdeCache;
 
     private double pesoTotalTransportado = -1;
     private double volumenTotalTransportado = -1;
@@ -41,18 +47,40 @@ public class ResultadoOptimizacion {
         this.mejorAptitud = mejorAptitud;
     }
 
+    public int getGeneracionMejor() {
+        return generacionMejor;
+    }
+
     public void setGeneracionMejor(int generacionMejor) {
         this.generacionMejor = generacionMejor;
     }
 
+    /** @return generaciones realmente ejecutadas, que pueden ser menos que las configuradas. */
+    public int getGeneracionesEjecutadas() {
+        return generacionesEjecutadas;
+    }
+
     public void setGeneracionesEjecutadas(int generacionesEjecutadas) {
         this.generacionesEjecutadas = generacionesEjecutadas;
     }
 
+    /** @return duración de la evolución en milisegundos. */
+    public long getTiempoEjecucion() {
+        return tiempoEjecucion;
+    }
+
     public void setTiempoEjecucion(long tiempoEjecucion) {
         this.tiempoEjecucion = tiempoEjecucion;
     }
 
+    public CriterioParada getCriterioParada() {
+        return criterioParada;
+    }
+
+    public void setCriterioParada(CriterioParada criterioParada) {
+        this.criterioParada = criterioParada;
+    }
+
     public List<Double> getHistorialFitness() {
         return historialFitness;
     }
@@ -61,6 +89,97 @@ public class ResultadoOptimizacion {
         this.historialFitness = historialFitness;
     }
 
+    /** @return viajes de la mejor solución encontrada hasta el final de cada generación */
+    public List<Integer> getHistorialViajes() {
+        return historialViajes;
+    }
+
+    public void setHistorialViajes(List<Integer> historialViajes) {
+        this.historialViajes = historialViajes;
+    }
+
+    /** @return cota inferior de viajes del pedido; ninguna solución usa menos */
+    public int getCotaViajes() {
+        return cotaViajes;
+    }
+
+    public void setCotaViajes(int cotaViajes) {
+        this.cotaViajes = cotaViajes;
+    }
+
+    /**
+     * @return brecha de la solución final respecto de la cota inferior, (viajes - cota) / cota;
+     *         0 indica que no existe una solución con menos viajes
+     */
+    public double getBrechaOptimalidad() {
+        return brecha(viajes != null ? viajes.size() : 0);
+    }
+
+    /** @return brecha respecto de la cota inferior de la mejor solución al final de cada generación */
+    public List<Double> getHistorialBrecha() {
+        List<Double> brechas = new ArrayList<>(historialViajes.size());
+        for (int viajesGeneracion : historialViajes) {
+            brechas.add(brecha(viajesGeneracion));
+        }
+        return brechas;
+    }
+
+    private double brecha(int cantidadViajes) {
+        return cotaViajes > 0 ? (double) (cantidadViajes - cotaViajes) / cotaViajes : 0.0;
+    }
+
+    public long getAciertosCacheFitness() {
+        return aciertosCacheFitness;
+    }
+
+    public void setAciertosCacheFitness(long aciertosCacheFitness) {
+        this.aciertosCacheFitness = aciertosCacheFitness;
+    }
+
+    public long getFallosCacheFitness() {
+        return fallosCacheFitness;
+    }
+
+    public void setFallosCacheFitness(long fallosCacheFitness) {
+        this.fallosCacheFitness = fallosCacheFitness;
+    }
+
+    /** @return true si el resultado se tomó de una {@link CacheResultados} sin volver a optimizar */
+    public boolean isDesdeCache() {
+        return desdeCache;
+    }
+
+    public void setDesdeCache(boolean desdeCache) {
+        this.desdeCache = desdeCache;
+    }
+
+    /**
+     * Copia independiente para {@link CacheResultados}: viajes, listas y configuración propios.
+     * Las métricas agregadas se recalculan en la copia cuando se piden.
+     */
+    ResultadoOptimizacion copiar() {
+        ResultadoOptimizacion copia = new ResultadoOptimizacion();
+        if (viajes != null) {
+            copia.viajes = new ArrayList<>(viajes.size());
+            for (ViajeOptimo viaje : viajes) {
+                copia.viajes.add(viaje.copiar());
+            }
+        }
+        copia.mejorAptitud = mejorAptitud;
+        copia.generacionMejor = generacionMejor;
+        copia.generacionesEjecutadas = generacionesEjecutadas;
+        copia.tiempoEjecucion = tiempoEjecucion;
+        copia.criterioParada = criterioParada;
+        copia.historialFitness = new ArrayList<>(historialFitness);
+        copia.historialViajes = new ArrayList<>(historialViajes);
+        copia.cotaViajes = cotaViajes;
+        copia.configuracion = configuracion != null ? configuracion.copiar() : null;
+        copia.aciertosCacheFitness = aciertosCacheFitness;
+        copia.fallosCacheFitness = fallosCacheFitness;
+        copia.desdeCache = desdeCache;
+        return copia;
+    }
+
     /** Recalcula métricas agregadas de peso, volumen y eficiencia a partir de los viajes actuales. */
     public void calcularEstadisticas() {
         if (viajes == null || viajes.isEmpty() || configuracion == null) {
@@ -73,17 +192,14 @@ public class ResultadoOptimizacion {
         double sumaEficienciaVolumen = 0.0;
         int contadorProductos = 0;
 
-        double pesoMax = configuracion.getPesoMaximoPorViaje();
-        double volumenMax = configuracion.getCapacidadVolumenCaja();
-
         for (ViajeOptimo viaje : viajes) {
             double peso = viaje.getPesoTotal();
             double volumen = viaje.getVolumenTotal();
 
             sumaPesos += peso;
             sumaVolumenes += volumen;
-            sumaEficienciaPeso += viaje.calcularPorcentajeUtilizacion(pesoMax);
-            sumaEficienciaVolumen += viaje.calcularPorcentajeUtilizacionVolumen(volumenMax);
+            sumaEficienciaPeso += viaje.calcularPorcentajeUtilizacion(pesoMaximo(viaje));
+            sumaEficienciaVolumen += viaje.calcularPorcentajeUtilizacionVolumen(volumenMaximo(viaje));
             contadorProductos += viaje.contarCantidadTotalDeProductos();
         }
 
@@ -101,6 +217,7 @@ public class ResultadoOptimizacion {
         StringBuilder sb = new StringBuilder();
         sb.append("==== RESUMEN DE OPTIMIZACIÓN ====\n");
         sb.append(String.format("Número de viajes: %d\n", viajes != null ? viajes.size() : 0));
+        sb.append(String.format("Cota inferior de viajes: %d (brecha %.1f%%)\n", cotaViajes, getBrechaOptimalidad() * 100));
         sb.append(String.format("Mejor fitness: %.4f\n", mejorAptitud));
         sb.append(String.format("Peso total transportado: %.2f kg\n", pesoTotalTransportado));
         sb.append(String.format("Volumen total transportado: %.2f cm³\n", volumenTotalTransportado));
@@ -108,7 +225,9 @@ public class ResultadoOptimizacion {
         sb.append(String.format("Eficiencia promedio (volumen): %.1f%%\n", eficienciaVolumenPromedio));
         sb.append(String.format("Total productos transportados: %d\n", totalProductosTransportados));
         sb.append(String.format("Generación óptima: %d\n", generacionMejor));
+        sb.append(String.format("Generaciones ejecutadas: %d (%s)\n", generacionesEjecutadas, criterioParada.getDescripcion()));
         sb.append(String.format("Tiempo ejecución: %.2f segundos\n", tiempoEjecucion / 1000.0));
+        sb.append(String.format("Caché de fitness: %d aciertos, %d fallos\n", aciertosCacheFitness, fallosCacheFitness));
         return sb.toString();
     }
 
@@ -162,7 +281,7 @@ public class ResultadoOptimizacion {
         }
 
         return (int) viajes.stream()
-                .mapToDouble(v -> v.calcularPorcentajeUtilizacion(configuracion.getPesoMaximoPorViaje()))
+                .mapToDouble(v -> v.calcularPorcentajeUtilizacion(pesoMaximo(v)))
                 .filter(ef -> ef >= umbralPorcentaje)
                 .count();
     }
@@ -174,11 +293,33 @@ public class ResultadoOptimizacion {
         }
 
         return (int) viajes.stream()
-                .mapToDouble(v -> v.calcularPorcentajeUtilizacionVolumen(configuracion.getCapacidadVolumenCaja()))
+                .mapToDouble(v -> v.calcularPorcentajeUtilizacionVolumen(volumenMaximo(v)))
                 .filter(ef -> ef >= umbralPorcentaje)
                 .count();
     }
 
+    /** @return peso máximo del dron del viaje, o el de la configuración si no tiene uno asignado. */
+    public double pesoMaximo(ViajeOptimo viaje) {
+        return viaje.getDron() != null ? viaje.getDron().getPesoMaximo() : configuracion.getPesoMaximoPorViaje();
+    }
+
+    /** @return volumen máximo del dron del viaje, o el de la configuración si no tiene uno asignado. */
+    public double volumenMaximo(ViajeOptimo viaje) {
+        return viaje.getDron() != null ? viaje.getDron().getVolumenMaximo() : configuracion.getCapacidadVolumenCaja();
+    }
+
+    /** @return suma del costo por viaje de los drones asignados. */
+    public double getCostoTotal() {
+        if (viajes == null) {
+            return 0.0;
+        }
+        double costo = 0.0;
+        for (ViajeOptimo viaje : viajes) {
+            costo += viaje.getDron() != null ? viaje.getDron().getCostoPorViaje() : 1.0;
+        }
+        return costo;
+    }
+
     @Override
     public String toString() {
         return obtenerResumen();
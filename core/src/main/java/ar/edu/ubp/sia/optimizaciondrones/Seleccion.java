@@ -0,0 +1,22 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.util.List;
+
+/**
+ * Interface para operador de selección
+ */
+public interface Seleccion {
+    /**
+     * @return individuo de la población, sin copiar: el algoritmo sólo lo lee para escribir
+     * los hijos en el buffer de la generación siguiente
+     */
+    Cromosoma seleccionar(List<Cromosoma> poblacion);
+
+    /**
+     * Se invoca una vez por generación, con la población ya evaluada y antes de la primera
+     * llamada a {@link #seleccionar(List)}. Las estrategias que muestrean sobre tablas
+     * precalculadas las construyen aquí; por defecto no hace nada.
+     */
+    default void prepararGeneracion(List<Cromosoma> poblacion) {
+    }
+}
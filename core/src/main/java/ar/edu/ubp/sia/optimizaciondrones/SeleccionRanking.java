@@ -3,7 +3,8 @@ package ar.edu.ubp.sia.optimizaciondrones;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Selección por ranking: asigna mayor probabilidad a mejores individuos
@@ -11,7 +12,16 @@ import java.util.Random;
  */
 public class SeleccionRanking implements Seleccion {
 
-    private final Random random = new Random();
+    private final RandomGenerator random;
+
+    public SeleccionRanking() {
+        this(new SplittableRandom());
+    }
+
+    /** @param random generador de números aleatorios del operador */
+    public SeleccionRanking(RandomGenerator random) {
+        this.random = random;
+    }
 
     /** {@inheritDoc} */
     @Override
@@ -33,10 +43,10 @@ public class SeleccionRanking implements Seleccion {
         double r = random.nextDouble();
         for (int i = 0; i < n; i++) {
             if (r <= acumuladas[i]) {
-                return ordenados.get(i).clonar();
+                return ordenados.get(i);
             }
         }
 
-        return ordenados.get(n - 1).clonar();
+        return ordenados.get(n - 1);
     }
 }
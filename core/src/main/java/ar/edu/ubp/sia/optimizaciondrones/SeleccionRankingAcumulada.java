@@ -0,0 +1,65 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Selección por ranking lineal con la misma distribución que {@link SeleccionRanking}.
+ * Ordena la población una vez por generación y muestrea con búsqueda binaria sobre las
+ * probabilidades acumuladas, que sólo dependen del tamaño de la población y se reutilizan.
+ */
+public class SeleccionRankingAcumulada implements Seleccion {
+
+    private final RandomGenerator random;
+    private double[] acumuladas = new double[0];
+    private Cromosoma[] ordenados = new Cromosoma[0];
+    private int tamano;
+
+    public SeleccionRankingAcumulada() {
+        this(new SplittableRandom());
+    }
+
+    /** @param random generador de números aleatorios del operador */
+    public SeleccionRankingAcumulada(RandomGenerator random) {
+        this.random = random;
+    }
+
+    /** Ordena una copia de la población y, si cambió su tamaño, recalcula las acumuladas. */
+    @Override
+    public void prepararGeneracion(List<Cromosoma> poblacion) {
+        int n = poblacion.size();
+        if (n != acumuladas.length) {
+            acumuladas = new double[n];
+            ordenados = new Cromosoma[n];
+            double sumaRankings = n * (n + 1) / 2.0;
+            double acumulado = 0;
+            for (int i = 0; i < n; i++) {
+                acumulado += (n - i) / sumaRankings;
+                acumuladas[i] = acumulado;
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            ordenados[i] = poblacion.get(i);
+        }
+        Arrays.sort(ordenados);
+        tamano = n;
+    }
+
+    /** {@inheritDoc} Si la población cambió de tamaño desde la preparación, vuelve a prepararla. */
+    @Override
+    public Cromosoma seleccionar(List<Cromosoma> poblacion) {
+        if (tamano != poblacion.size()) {
+            prepararGeneracion(poblacion);
+        }
+
+        double r = random.nextDouble();
+        int indice = Arrays.binarySearch(acumuladas, 0, tamano, r);
+        if (indice < 0) {
+            indice = -indice - 1;
+        }
+        return ordenados[Math.min(indice, tamano - 1)];
+    }
+}
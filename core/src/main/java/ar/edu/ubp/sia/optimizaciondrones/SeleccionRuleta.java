@@ -1,11 +1,21 @@
 package ar.edu.ubp.sia.optimizaciondrones;
 
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /** Implementa selección proporcional al fitness (ruleta). */
 public class SeleccionRuleta implements Seleccion {
-    private final Random random = new Random();
+    private final RandomGenerator random;
+
+    public SeleccionRuleta() {
+        this(new SplittableRandom());
+    }
+
+    /** @param random generador de números aleatorios del operador */
+    public SeleccionRuleta(RandomGenerator random) {
+        this.random = random;
+    }
 
     /** {@inheritDoc} */
     @Override
@@ -16,7 +26,7 @@ public class SeleccionRuleta implements Seleccion {
         }
 
         if (sumaFitness == 0) {
-            return poblacion.get(random.nextInt(poblacion.size())).clonar();
+            return poblacion.get(random.nextInt(poblacion.size()));
         }
 
         double valor = random.nextDouble() * sumaFitness;
@@ -25,10 +35,10 @@ public class SeleccionRuleta implements Seleccion {
         for (Cromosoma c : poblacion) {
             acumulado += c.getFitness();
             if (acumulado >= valor) {
-                return c.clonar();
+                return c;
             }
         }
 
-        return poblacion.get(poblacion.size() - 1).clonar();
+        return poblacion.get(poblacion.size() - 1);
     }
 }
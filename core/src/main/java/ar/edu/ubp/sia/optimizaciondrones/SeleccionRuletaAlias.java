@@ -0,0 +1,99 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Selección proporcional al fitness con tabla de alias de Walker/Vose.
+ * La tabla se arma una vez por generación en O(n) y cada selección cuesta O(1),
+ * contra el recorrido O(n) por llamada de {@link SeleccionRuleta}.
+ */
+public class SeleccionRuletaAlias implements Seleccion {
+
+    private final RandomGenerator random;
+    private double[] probabilidad = new double[0];
+    private int[] alias = new int[0];
+    private int[] pequenos = new int[0];
+    private int[] grandes = new int[0];
+    private int tamano;
+    private boolean uniforme;
+
+    public SeleccionRuletaAlias() {
+        this(new SplittableRandom());
+    }
+
+    /** @param random generador de números aleatorios del operador */
+    public SeleccionRuletaAlias(RandomGenerator random) {
+        this.random = random;
+    }
+
+    /**
+     * Construye la tabla de alias con el fitness actual. Reutiliza los arreglos entre
+     * generaciones mientras el tamaño de la población no crezca.
+     */
+    @Override
+    public void prepararGeneracion(List<Cromosoma> poblacion) {
+        tamano = poblacion.size();
+        if (probabilidad.length < tamano) {
+            probabilidad = new double[tamano];
+            alias = new int[tamano];
+            pequenos = new int[tamano];
+            grandes = new int[tamano];
+        }
+
+        double sumaFitness = 0;
+        for (Cromosoma c : poblacion) {
+            sumaFitness += c.getFitness();
+        }
+        uniforme = sumaFitness == 0;
+        if (uniforme) {
+            return;
+        }
+
+        int cantidadPequenos = 0;
+        int cantidadGrandes = 0;
+        for (int i = 0; i < tamano; i++) {
+            probabilidad[i] = poblacion.get(i).getFitness() * tamano / sumaFitness;
+            alias[i] = i;
+            if (probabilidad[i] < 1.0) {
+                pequenos[cantidadPequenos++] = i;
+            } else {
+                grandes[cantidadGrandes++] = i;
+            }
+        }
+
+        while (cantidadPequenos > 0 && cantidadGrandes > 0) {
+            int menor = pequenos[--cantidadPequenos];
+            int mayor = grandes[--cantidadGrandes];
+            alias[menor] = mayor;
+            probabilidad[mayor] -= 1.0 - probabilidad[menor];
+            if (probabilidad[mayor] < 1.0) {
+                pequenos[cantidadPequenos++] = mayor;
+            } else {
+                grandes[cantidadGrandes++] = mayor;
+            }
+        }
+        // Lo que queda en cualquiera de las listas tiene probabilidad 1 salvo error de redondeo.
+        while (cantidadGrandes > 0) {
+            probabilidad[grandes[--cantidadGrandes]] = 1.0;
+        }
+        while (cantidadPequenos > 0) {
+            probabilidad[pequenos[--cantidadPequenos]] = 1.0;
+        }
+    }
+
+    /** {@inheritDoc} Si la tabla no corresponde al tamaño recibido, la reconstruye. */
+    @Override
+    public Cromosoma seleccionar(List<Cromosoma> poblacion) {
+        if (tamano != poblacion.size()) {
+            prepararGeneracion(poblacion);
+        }
+
+        int columna = random.nextInt(tamano);
+        if (uniforme || random.nextDouble() < probabilidad[columna]) {
+            return poblacion.get(columna);
+        }
+        return poblacion.get(alias[columna]);
+    }
+}
@@ -1,7 +1,8 @@
 package ar.edu.ubp.sia.optimizaciondrones;
 
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Selección por torneo
@@ -9,10 +10,16 @@ import java.util.Random;
 public class SeleccionTorneo implements Seleccion {
 
     private final int tamanioTorneo;
-    private final Random random = new Random();
+    private final RandomGenerator random;
 
     public SeleccionTorneo(int tamanioTorneo) {
+        this(tamanioTorneo, new SplittableRandom());
+    }
+
+    /** @param random generador de números aleatorios del operador */
+    public SeleccionTorneo(int tamanioTorneo, RandomGenerator random) {
         this.tamanioTorneo = tamanioTorneo;
+        this.random = random;
     }
 
     @Override
@@ -0,0 +1,217 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Resuelve muchos pedidos sobre un mismo catálogo con un pool fijo de hilos.
+ * <p>
+ * Cada pedido se optimiza con un {@link ServicioOptimizacion} propio en un único hilo: el
+ * paralelismo está entre pedidos, así que la evaluación paralela de la configuración se ignora.
+ * Como mucho {@code pedidosPendientesMaximos} pedidos pueden estar en cola o en ejecución;
+ * {@link #enviar} bloquea a quien envía hasta que se libere un lugar, de modo que un productor
+ * más rápido que los hilos no acumula pedidos en memoria.
+ * <p>
+ * El plazo de un pedido corre desde que se envía. Si vence en la cola el pedido no se ejecuta
+ * y su resultado falla con {@link TimeoutException}; si no, la evolución recibe como tiempo
+ * máximo lo que queda del plazo y devuelve la mejor solución encontrada hasta entonces.
+ * Cancelar el {@link CompletableFuture} de un pedido detiene su evolución.
+ * <p>
+ * Con una {@link CacheResultados} los pedidos repetidos se resuelven con el resultado guardado
+ * sin volver a optimizar, aunque sigan pasando por la cola.
+ */
+public class ServicioLotes implements AutoCloseable {
+
+    private final CatalogoProductos catalogo;
+    private final ConfiguracionAG config;
+    private final ExecutorService trabajadores;
+    private final Semaphore lugares;
+    private final CacheResultados cache;
+
+    /**
+     * @param catalogo productos que pueden aparecer en los pedidos, compartido por todos
+     * @param config parámetros del algoritmo para cada pedido; se copia y no se modifica
+     * @param hilos cantidad de pedidos que se optimizan a la vez
+     * @param pedidosPendientesMaximos pedidos en cola o en ejecución antes de que
+     *                                 {@link #enviar} bloquee; al menos {@code hilos}
+     */
+    public ServicioLotes(CatalogoProductos catalogo, ConfiguracionAG config, int hilos, int pedidosPendientesMaximos) {
+        this(catalogo, config, hilos, pedidosPendientesMaximos, null);
+    }
+
+    /**
+     * @param cache resultados compartidos por todos los pedidos del servicio, o {@code null}
+     *              para optimizar cada pedido
+     */
+    public ServicioLotes(CatalogoProductos catalogo, ConfiguracionAG config, int hilos, int pedidosPendientesMaximos,
+                         CacheResultados cache) {
+        if (!config.esValida()) {
+            throw new IllegalArgumentException("Configuración inválida: " + config);
+        }
+        if (hilos <= 0 || pedidosPendientesMaximos < hilos) {
+            throw new IllegalArgumentException("Se requieren hilos > 0 y pedidos pendientes >= hilos");
+        }
+        this.catalogo = catalogo;
+        this.config = config.copiar();
+        this.config.setParalelismo(1);
+        this.trabajadores = Executors.newFixedThreadPool(hilos, crearFabricaHilos());
+        this.lugares = new Semaphore(pedidosPendientesMaximos);
+        this.cache = cache;
+    }
+
+    private static ThreadFactory crearFabricaHilos() {
+        AtomicInteger numero = new AtomicInteger();
+        return tarea -> {
+            Thread hilo = new Thread(tarea, "lote-optimizacion-" + numero.incrementAndGet());
+            hilo.setDaemon(true);
+            return hilo;
+        };
+    }
+
+    /** Envía un pedido sin plazo. */
+    public CompletableFuture<ResultadoOptimizacion> enviar(Map<String, Integer> pedido) throws InterruptedException {
+        return enviar(pedido, 0);
+    }
+
+    /**
+     * Encola un pedido, esperando si ya hay {@code pedidosPendientesMaximos} pendientes.
+     * Un pedido con productos fuera del catálogo devuelve un resultado fallido sin ocupar lugar.
+     *
+     * @param pedido cantidad solicitada por producto
+     * @param plazoMs milisegundos desde ahora para tener el resultado, 0 sin plazo
+     * @return resultado del pedido, que se completa en un hilo del pool
+     * @throws InterruptedException si se interrumpe la espera por un lugar
+     * @throws IllegalStateException si el servicio ya se cerró
+     */
+    public CompletableFuture<ResultadoOptimizacion> enviar(Map<String, Integer> pedido, long plazoMs)
+            throws InterruptedException {
+        if (plazoMs < 0) {
+            throw new IllegalArgumentException("Plazo negativo: " + plazoMs);
+        }
+        try {
+            catalogo.validarPedido(pedido);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        long vencimiento = plazoMs > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(plazoMs) : 0;
+        lugares.acquire();
+        // Copia con el orden del pedido, del que salen los ids de gen, para que la semilla lo reproduzca.
+        TareaPedido tarea = new TareaPedido(Collections.unmodifiableMap(new LinkedHashMap<>(pedido)),
+                vencimiento, plazoMs);
+        try {
+            trabajadores.execute(tarea);
+        } catch (RejectedExecutionException e) {
+            lugares.release();
+            throw new IllegalStateException("El servicio de lotes está cerrado", e);
+        }
+        return tarea.resultado;
+    }
+
+    /**
+     * Envía los pedidos de un flujo a medida que hay lugar, con el mismo plazo para cada uno.
+     *
+     * @return resultados en el orden del flujo
+     */
+    public List<CompletableFuture<ResultadoOptimizacion>> enviarTodos(Stream<Map<String, Integer>> pedidos, long plazoMs)
+            throws InterruptedException {
+        List<CompletableFuture<ResultadoOptimizacion>> resultados = new ArrayList<>();
+        for (Iterator<Map<String, Integer>> it = pedidos.iterator(); it.hasNext(); ) {
+            resultados.add(enviar(it.next(), plazoMs));
+        }
+        return resultados;
+    }
+
+    /** @return pedidos que todavía pueden encolarse sin bloquear */
+    public int getLugaresLibres() {
+        return lugares.availablePermits();
+    }
+
+    /**
+     * Deja de aceptar pedidos y espera a que terminen los enviados. Si se interrumpe la espera,
+     * cancela los pedidos en curso y los que seguían en cola.
+     */
+    @Override
+    public void close() {
+        trabajadores.shutdown();
+        try {
+            trabajadores.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            for (Runnable pendiente : trabajadores.shutdownNow()) {
+                ((TareaPedido) pendiente).resultado.cancel(false);
+            }
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Optimización de un pedido en un hilo del pool. */
+    private final class TareaPedido implements Runnable {
+
+        private final Map<String, Integer> pedido;
+        private final long vencimiento;
+        private final long plazoMs;
+        private final CompletableFuture<ResultadoOptimizacion> resultado = new CompletableFuture<>();
+
+        TareaPedido(Map<String, Integer> pedido, long vencimiento, long plazoMs) {
+            this.pedido = pedido;
+            this.vencimiento = vencimiento;
+            this.plazoMs = plazoMs;
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (resultado.isDone()) {
+                    return;
+                }
+                ConfiguracionAG configPedido = config;
+                if (vencimiento != 0) {
+                    long restanteMs = TimeUnit.NANOSECONDS.toMillis(vencimiento - System.nanoTime());
+                    if (restanteMs <= 0) {
+                        resultado.completeExceptionally(new TimeoutException(
+                                "El plazo de " + plazoMs + " ms venció antes de empezar el pedido"));
+                        return;
+                    }
+                    configPedido = config.copiar();
+                    configPedido.setTiempoMaximoMs(config.getTiempoMaximoMs() > 0
+                            ? Math.min(config.getTiempoMaximoMs(), restanteMs) : restanteMs);
+                }
+
+                ServicioOptimizacion servicio = new ServicioOptimizacion(catalogo.getVolumenProductos(),
+                        catalogo.getPesosProductos(), pedido, configPedido);
+                if (cache != null) {
+                    servicio.usarCache(cache);
+                }
+                resultado.whenComplete((valor, error) -> {
+                    if (error instanceof CancellationException) {
+                        servicio.cancelar();
+                    }
+                });
+                servicio.ejecutar();
+                resultado.complete(servicio.getResultado());
+            } catch (RuntimeException e) {
+                resultado.completeExceptionally(e);
+            } catch (Error e) {
+                resultado.completeExceptionally(e);
+                throw e;
+            } finally {
+                lugares.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Servicio de aplicación que ejecuta la optimización y prepara una salida textual detallada.
+ */
+public class ServicioOptimizacion {
+
+    private static final double UMBRAL_EFICIENCIA = 80.0;
+
+    private final DecimalFormat df = new DecimalFormat("#.##");
+    private final Map<String, Double> volumenProductos;
+    private final Map<String, Double> pesosProductos;
+    private final Map<String, Integer> pedido;
+    private final ConfiguracionAG config;
+    private final List<EscuchaGeneracion> escuchas = new ArrayList<>();
+    private volatile boolean cancelada;
+    private volatile Runnable cancelacion;
+    private CacheResultados cacheResultados;
+    private ModeloPedido modelo;
+    private ResultadoOptimizacion resultado;
+
+    public ServicioOptimizacion(Map<String, Double> volumenProductos, Map<String, Double> pesosProductos,
+                                Map<String, Integer> pedido, ConfiguracionAG config) {
+        this.volumenProductos = volumenProductos;
+        this.pesosProductos = pesosProductos;
+        this.pedido = pedido;
+        this.config = config;
+    }
+
+    /**
+     * Registra una escucha del progreso por generación; con islas recibe el de cada isla.
+     * Debe llamarse antes de {@link #ejecutar()}.
+     */
+    public void agregarEscucha(EscuchaGeneracion escucha) {
+        escuchas.add(escucha);
+    }
+
+    /**
+     * Consulta la caché antes de optimizar y guarda en ella el resultado, salvo que la ejecución
+     * se corte por tiempo máximo o cancelación. Debe llamarse antes de {@link #ejecutar()}; la
+     * caché puede compartirse entre servicios.
+     */
+    public void usarCache(CacheResultados cache) {
+        this.cacheResultados = cache;
+    }
+
+    /**
+     * Pide detener la ejecución en curso desde otro hilo. {@link #ejecutar()} termina al cerrar
+     * la generación actual y deja el mejor resultado encontrado hasta ahí.
+     */
+    public void cancelar() {
+        cancelada = true;
+        Runnable accion = cancelacion;
+        if (accion != null) {
+            accion.run();
+        }
+    }
+
+    /**
+     * Ejecuta el algoritmo genético usando la configuración y operadores seleccionados, o toma
+     * el resultado de la caché si el pedido ya se optimizó con la misma capacidad.
+     */
+    public void ejecutar() {
+        modelo = ModeloPedido.compilar(pesosProductos, volumenProductos, pedido, config);
+        if (cacheResultados == null) {
+            resultado = optimizar();
+            return;
+        }
+        long inicio = System.nanoTime();
+        String clave = CacheResultados.clave(pesosProductos, volumenProductos, pedido, config);
+        resultado = cacheResultados.obtener(clave);
+        if (resultado != null) {
+            // La solución es la guardada, pero la salida informa la configuración y el tiempo de esta llamada.
+            resultado.setConfiguracion(config);
+            resultado.setTiempoEjecucion((System.nanoTime() - inicio) / 1_000_000L);
+            return;
+        }
+        resultado = optimizar();
+        if (resultado.getCriterioParada().esCompleta()) {
+            cacheResultados.guardar(clave, resultado);
+        }
+    }
+
+    private ResultadoOptimizacion optimizar() {
+        ResultadoOptimizacion exacto = new SolucionadorExacto(modelo, config).resolver();
+        if (exacto != null) {
+            return exacto;
+        }
+        if (config.getNumeroIslas() > 1) {
+            ModeloIslas islas = new ModeloIslas(modelo, config);
+            escuchas.forEach(islas::agregarEscucha);
+            registrarCancelacion(islas::cancelar);
+            return islas.ejecutar();
+        }
+
+        SplittableRandom raiz = config.crearGeneradorRaiz();
+        Seleccion seleccion = FabricaOperadores.crearSeleccion(config.getTipoSeleccion(), raiz.split());
+        Cruza cruza = FabricaOperadores.crearCruza(config.getTipoCruza(), raiz.split());
+        Mutacion mutacion = FabricaOperadores.crearMutacion(config.getTipoMutacion(), raiz.split());
+
+        AlgoritmoGenetico ag = new AlgoritmoGenetico(modelo, config, seleccion, cruza, mutacion, raiz.split());
+        escuchas.forEach(ag::agregarEscucha);
+        registrarCancelacion(ag::cancelar);
+        return ag.ejecutar();
+    }
+
+    /** Conecta {@link #cancelar()} con la ejecución creada, incluso si se canceló antes de crearla. */
+    private void registrarCancelacion(Runnable accion) {
+        cancelacion = accion;
+        if (cancelada) {
+            accion.run();
+        }
+    }
+
+    /**
+     * Genera una salida legible para la consola con pedido, configuración, viajes y estadísticas.
+     */
+    public String outputConsola() {
+        StringBuilder sb = new StringBuilder();
+
+        appendResumenPedido(sb);
+        appendConfiguracion(sb);
+        appendResultados(sb);
+        appendDetalleViajes(sb);
+        appendEstadisticas(sb);
+
+        return sb.toString();
+    }
+
+    private void appendResumenPedido(StringBuilder sb) {
+        sb.append("PEDIDO DESDE FORMULARIO:\n");
+        double pesoTotal = 0;
+        double volumenTotal = 0;
+        int productosTotal = 0;
+
+        for (Map.Entry<String, Integer> item : pedido.entrySet()) {
+            int cantidad = item.getValue();
+            double peso = pesosProductos.get(item.getKey()) * cantidad;
+            double volumen = volumenProductos.get(item.getKey()) * cantidad;
+
+            pesoTotal += peso;
+            volumenTotal += volumen;
+            productosTotal += cantidad;
+
+            sb.append("- ").append(item.getKey()).append(": ")
+                    .append(cantidad).append(" unidades (")
+                    .append(df.format(peso)).append(" kg, ")
+                    .append(df.format(volumen)).append(" cm3)\n");
+        }
+
+        sb.append("\nTotal: ").append(productosTotal).append(" productos, ")
+                .append(df.format(pesoTotal)).append(" kg, ")
+                .append(df.format(volumenTotal)).append(" cm3\n");
+
+        sb.append("Viajes mínimos teóricos (peso): ").append(modelo.getViajesMinimosPeso()).append("\n");
+        sb.append("Viajes mínimos teóricos (volumen): ").append(modelo.getViajesMinimosVolumen()).append("\n");
+        sb.append("Viajes mínimos teóricos (peso y volumen): ").append(modelo.getViajesMinimosCombinados()).append("\n");
+    }
+
+    private String descripcionInicializacion() {
+        ConfiguracionAG config = resultado.getConfiguracion();
+        if ("Aleatoria".equals(config.getTipoInicializacion())) {
+            return config.getTipoInicializacion();
+        }
+        return String.format("%s (%.0f%% de la población)", config.getTipoInicializacion(),
+                config.getFraccionInicializacionHeuristica() * 100);
+    }
+
+    private String descripcionBusquedaLocal() {
+        ConfiguracionAG config = resultado.getConfiguracion();
+        if (config.getElitesBusquedaLocal() == 0) {
+            return "no";
+        }
+        return String.format("%d mejores individuos, hasta %d ms por generación",
+                config.getElitesBusquedaLocal(), config.getPresupuestoBusquedaLocalMs());
+    }
+
+    private String descripcionBusquedaExacta() {
+        ConfiguracionAG config = resultado.getConfiguracion();
+        if (config.getUnidadesBusquedaExacta() == 0) {
+            return "no";
+        }
+        return String.format("pedidos de hasta %d unidades", config.getUnidadesBusquedaExacta());
+    }
+
+    private void appendConfiguracion(StringBuilder sb) {
+        sb.append("\nConfiguración:\n")
+                .append("- Selección: ").append(resultado.getConfiguracion().getTipoSeleccion()).append("\n")
+                .append("- Cruza: ").append(resultado.getConfiguracion().getTipoCruza()).append("\n")
+                .append("- Mutación: ").append(resultado.getConfiguracion().getTipoMutacion()).append("\n")
+                .append("- Decodificación: ").append(resultado.getConfiguracion().getTipoDecodificador()).append("\n")
+                .append("- Población inicial: ").append(descripcionInicializacion()).append("\n")
+                .append("- Semilla: ").append(resultado.getConfiguracion().getSemilla() != null
+                        ? resultado.getConfiguracion().getSemilla() : "aleatoria").append("\n")
+                .append("- Población: ").append(resultado.getConfiguracion().getTamanoPoblacion()).append("\n")
+                .append("- Generaciones: ").append(resultado.getConfiguracion().getNumeroGeneraciones()).append("\n")
+                .append("- Hilos de evaluación: ").append(resultado.getConfiguracion().getParalelismo()).append("\n")
+                .append("- Islas: ").append(resultado.getConfiguracion().getNumeroIslas()).append("\n")
+                .append("- Unidades por gen: ").append(resultado.getConfiguracion().getUnidadesPorLote()).append("\n")
+                .append("- Búsqueda local: ").append(descripcionBusquedaLocal()).append("\n")
+                .append("- Búsqueda exacta: ").append(descripcionBusquedaExacta()).append("\n");
+        if (!resultado.getConfiguracion().tieneFlota()) {
+            sb.append("- Máximo peso por viaje: ").append(resultado.getConfiguracion().getPesoMaximoPorViaje()).append(" kg\n")
+                    .append("- Máximo volumen por viaje: ").append(resultado.getConfiguracion().getCapacidadVolumenCaja()).append(" cm3\n");
+            return;
+        }
+        sb.append("- Flota:\n");
+        for (TipoDron dron : resultado.getConfiguracion().getFlota().getTipos()) {
+            sb.append("  - ").append(dron.getNombre()).append(": ")
+                    .append(df.format(dron.getPesoMaximo())).append(" kg, ")
+                    .append(df.format(dron.getVolumenMaximo())).append(" cm3, ")
+                    .append(dron.getDronesPorRonda()).append(" drones por ronda, costo ")
+                    .append(df.format(dron.getCostoPorViaje())).append(" por viaje\n");
+        }
+    }
+
+    private void appendResultados(StringBuilder sb) {
+        sb.append("\nRESULTADOS:\n")
+                .append("- Aptitud alcanzada: ").append(df.format(resultado.getMejorAptitud())).append("\n")
+                .append("- Viajes necesarios: ").append(resultado.getViajes().size()).append("\n")
+                .append("- Brecha con la cota inferior (").append(resultado.getCotaViajes()).append(" viajes): ")
+                .append(df.format(resultado.getBrechaOptimalidad() * 100)).append("%\n")
+                .append("- Generaciones ejecutadas: ").append(resultado.getGeneracionesEjecutadas())
+                .append(" (").append(resultado.getCriterioParada().getDescripcion()).append(")\n")
+                .append("- Tiempo de ejecución: ").append(resultado.getTiempoEjecucion()).append(" ms\n");
+        if (resultado.isDesdeCache()) {
+            sb.append("- Resultado tomado de la caché de pedidos\n");
+        }
+    }
+
+    private void appendDetalleViajes(StringBuilder sb) {
+        sb.append("\nDetalle de viajes:\n");
+        for (int i = 0; i < resultado.getViajes().size(); i++) {
+            ViajeOptimo viaje = resultado.getViajes().get(i);
+            double peso = viaje.getPesoTotal();
+            double volumen = viaje.getVolumenTotal();
+            double porcentajePeso = (peso / resultado.pesoMaximo(viaje)) * 100;
+            double porcentajeVolumen = (volumen / resultado.volumenMaximo(viaje)) * 100;
+
+            sb.append("Viaje ").append(i + 1).append(":\n");
+            if (resultado.getConfiguracion().tieneFlota()) {
+                sb.append("- Dron: ").append(viaje.getDron().getNombre()).append("\n");
+            }
+            sb.append("- Peso: ").append(df.format(peso)).append(" kg (")
+                    .append(df.format(porcentajePeso)).append("% capacidad)\n");
+            sb.append("- Volumen: ").append(df.format(volumen)).append(" cm3 (")
+                    .append(df.format(porcentajeVolumen)).append("% capacidad)\n");
+            sb.append("- Productos: ");
+
+            appendProductosViaje(sb, viaje);
+            sb.append("\n");
+        }
+    }
+
+    private void appendProductosViaje(StringBuilder sb, ViajeOptimo viaje) {
+        boolean primero = true;
+        for (Map.Entry<String, Integer> prod : viaje.getProductos().entrySet()) {
+            if (prod.getValue() > 0) {
+                if (!primero) {
+                    sb.append(", ");
+                }
+                sb.append(prod.getKey()).append(" x").append(prod.getValue());
+                primero = false;
+            }
+        }
+    }
+
+    private void appendEstadisticas(StringBuilder sb) {
+        resultado.calcularEstadisticas();
+        sb.append("\nEstadísticas:\n")
+                .append("- Peso total transportado: ").append(df.format(resultado.getPesoTotalTransportado())).append(" kg\n")
+                .append("- Volumen total transportado: ").append(df.format(resultado.getVolumenTotalTransportado())).append(" cm3\n")
+                .append("- Eficiencia promedio (peso): ").append(df.format(resultado.getEficienciaPesoPromedio())).append("%\n")
+                .append("- Eficiencia promedio (volumen): ").append(df.format(resultado.getEficienciaVolumenPromedio())).append("%\n")
+                .append("- Viajes eficientes (peso >80%): ").append(resultado.contarViajesConEficienciaPesoMinima(UMBRAL_EFICIENCIA)).append("\n")
+                .append("- Viajes eficientes (volumen >80%): ").append(resultado.contarViajesConEficienciaVolumenMinima(UMBRAL_EFICIENCIA)).append("\n")
+                .append("- Caché de fitness: ").append(resultado.getAciertosCacheFitness()).append(" aciertos, ")
+                .append(resultado.getFallosCacheFitness()).append(" fallos\n");
+        if (resultado.getConfiguracion().tieneFlota()) {
+            appendUsoFlota(sb);
+        }
+    }
+
+    /**
+     * Costo total y viajes por tipo de dron. Las rondas son los viajes que hace cada dron del
+     * tipo más exigido si los viajes se reparten entre todos sus drones.
+     */
+    private void appendUsoFlota(StringBuilder sb) {
+        Map<String, Integer> viajesPorDron = new LinkedHashMap<>();
+        for (TipoDron dron : resultado.getConfiguracion().getFlota().getTipos()) {
+            viajesPorDron.put(dron.getNombre(), 0);
+        }
+        for (ViajeOptimo viaje : resultado.getViajes()) {
+            viajesPorDron.merge(viaje.getDron().getNombre(), 1, Integer::sum);
+        }
+
+        int rondas = 0;
+        sb.append("- Costo total de la flota: ").append(df.format(resultado.getCostoTotal())).append("\n");
+        for (TipoDron dron : resultado.getConfiguracion().getFlota().getTipos()) {
+            int viajes = viajesPorDron.get(dron.getNombre());
+            rondas = Math.max(rondas, (viajes + dron.getDronesPorRonda() - 1) / dron.getDronesPorRonda());
+            sb.append("- Viajes con ").append(dron.getNombre()).append(": ").append(viajes).append("\n");
+        }
+        sb.append("- Rondas de despacho: ").append(rondas).append("\n");
+    }
+
+    public ResultadoOptimizacion getResultado() {
+        return resultado;
+    }
+}
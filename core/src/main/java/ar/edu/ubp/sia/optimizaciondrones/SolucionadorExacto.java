@@ -0,0 +1,349 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resuelve pedidos chicos en forma exacta, sin evolución, completando viajes sobre las
+ * cantidades restantes de cada tamaño de unidad.
+ * <p>
+ * Las unidades del mismo peso y volumen son intercambiables, así que un estado es la cantidad
+ * que queda de cada tamaño. Cada viaje se arma alrededor de la unidad restante más grande y sólo
+ * se prueban viajes maximales, donde no entra ninguna otra unidad restante: completar un viaje
+ * nunca obliga a usar más viajes. Partiendo de la cota inferior de {@link ModeloPedido}, busca
+ * una solución con k viajes para k creciente hasta la cantidad que usa first-fit decreasing; los
+ * estados que no pueden resolverse con k viajes se memorizan para no volver a explorarlos.
+ * <p>
+ * Sólo se aplica con un único tipo de dron, donde la aptitud queda determinada por la cantidad
+ * de viajes, y a pedidos de hasta {@link ConfiguracionAG#getUnidadesBusquedaExacta()} unidades.
+ * Si la búsqueda supera {@value #NODOS_MAXIMOS} nodos sin probar el óptimo se abandona y el
+ * pedido se resuelve con el algoritmo genético.
+ */
+public class SolucionadorExacto {
+
+    static final int NODOS_MAXIMOS = 250_000;
+
+    private final ModeloPedido modelo;
+    private final ConfiguracionAG config;
+    private final double pesoMaximo;
+    private final double volumenMaximo;
+    private final Map<Long, Integer> viajesInsuficientes = new HashMap<>();
+
+    private double[] pesoTamano;
+    private double[] volumenTamano;
+    private int[] restantes;
+    private long[] multiplicador;
+    private int[][] genesPorTamano;
+    private int[][] cargaViaje;
+    private int viajesArmados;
+    private int viajesSolucion;
+    private long nodos;
+    private boolean abandonada;
+
+    /**
+     * @param modelo pedido compilado
+     * @param config configuración de la ejecución; se informa en el resultado
+     */
+    public SolucionadorExacto(ModeloPedido modelo, ConfiguracionAG config) {
+        this.modelo = modelo;
+        this.config = config;
+        this.pesoMaximo = modelo.getFlota().getPesoMaximo();
+        this.volumenMaximo = modelo.getFlota().getVolumenMaximo();
+    }
+
+    /** @return true si el pedido es lo bastante chico y la flota tiene un único tipo de dron */
+    public boolean aplica() {
+        return modelo.getFlota().getCantidadTipos() == 1
+                && modelo.getUnidadesTotales() > 0
+                && modelo.getUnidadesTotales() <= config.getUnidadesBusquedaExacta();
+    }
+
+    /**
+     * Busca la solución con menos viajes.
+     *
+     * @return resultado óptimo con criterio {@link CriterioParada#SOLUCION_EXACTA}, o {@code null}
+     *         si el pedido no {@linkplain #aplica() aplica} o la búsqueda agotó sus nodos
+     */
+    public ResultadoOptimizacion resolver() {
+        if (!aplica() || !agruparTamanos()) {
+            return null;
+        }
+        long inicioNanos = System.nanoTime();
+
+        int unidades = (int) modelo.getUnidadesTotales();
+        int viajesGreedy = primeroQueEntraDecreciente();
+        long claveInicial = 0;
+        for (int tamano = 0; tamano < restantes.length; tamano++) {
+            claveInicial += restantes[tamano] * multiplicador[tamano];
+        }
+        nodos = 0;
+        abandonada = false;
+        viajesInsuficientes.clear();
+        for (int viajes = modelo.getViajesMinimosTeoricos(); viajes < viajesGreedy; viajes++) {
+            viajesArmados = 0;
+            if (completar(claveInicial, unidades, viajes)) {
+                return construirResultado((System.nanoTime() - inicioNanos) / 1_000_000L);
+            }
+            if (abandonada) {
+                return null;
+            }
+        }
+        // Ninguna solución usa menos viajes que first-fit decreasing.
+        primeroQueEntraDecreciente();
+        return construirResultado((System.nanoTime() - inicioNanos) / 1_000_000L);
+    }
+
+    /**
+     * Agrupa los genes por tamaño de unidad, de mayor a menor tamaño relativo.
+     *
+     * @return false si los estados no pueden codificarse en un {@code long}
+     */
+    private boolean agruparTamanos() {
+        double[] pesoPorGen = modelo.getPesoPorGen();
+        double[] volumenPorGen = modelo.getVolumenPorGen();
+        Integer[] genes = new Integer[pesoPorGen.length];
+        for (int gen = 0; gen < genes.length; gen++) {
+            genes[gen] = gen;
+        }
+        Arrays.sort(genes, Comparator.<Integer>comparingDouble(gen -> -tamanoRelativo(pesoPorGen[gen], volumenPorGen[gen]))
+                .thenComparingDouble(gen -> -pesoPorGen[gen])
+                .thenComparingDouble(gen -> -volumenPorGen[gen]));
+
+        List<List<Integer>> grupos = new ArrayList<>();
+        for (int gen : genes) {
+            List<Integer> ultimo = grupos.isEmpty() ? null : grupos.get(grupos.size() - 1);
+            if (ultimo != null && pesoPorGen[ultimo.get(0)] == pesoPorGen[gen]
+                    && volumenPorGen[ultimo.get(0)] == volumenPorGen[gen]) {
+                ultimo.add(gen);
+            } else {
+                List<Integer> grupo = new ArrayList<>();
+                grupo.add(gen);
+                grupos.add(grupo);
+            }
+        }
+
+        int tamanos = grupos.size();
+        pesoTamano = new double[tamanos];
+        volumenTamano = new double[tamanos];
+        restantes = new int[tamanos];
+        multiplicador = new long[tamanos];
+        genesPorTamano = new int[tamanos][];
+        long estados = 1;
+        for (int tamano = 0; tamano < tamanos; tamano++) {
+            genesPorTamano[tamano] = grupos.get(tamano).stream().mapToInt(Integer::intValue).toArray();
+            pesoTamano[tamano] = pesoPorGen[genesPorTamano[tamano][0]];
+            volumenTamano[tamano] = volumenPorGen[genesPorTamano[tamano][0]];
+            for (int gen : genesPorTamano[tamano]) {
+                restantes[tamano] += (int) unidadesDeGen(gen);
+            }
+            multiplicador[tamano] = estados;
+            try {
+                estados = Math.multiplyExact(estados, restantes[tamano] + 1L);
+            } catch (ArithmeticException e) {
+                return false;
+            }
+        }
+        cargaViaje = new int[(int) modelo.getUnidadesTotales()][tamanos];
+        return true;
+    }
+
+    private double tamanoRelativo(double peso, double volumen) {
+        return Math.max(pesoMaximo > 0 ? peso / pesoMaximo : 0.0, volumenMaximo > 0 ? volumen / volumenMaximo : 0.0);
+    }
+
+    /** Deja en {@link #cargaViaje} la solución first-fit decreasing y devuelve sus viajes. */
+    private int primeroQueEntraDecreciente() {
+        int unidades = (int) modelo.getUnidadesTotales();
+        double[] pesoViaje = new double[unidades];
+        double[] volumenViaje = new double[unidades];
+        for (int[] carga : cargaViaje) {
+            Arrays.fill(carga, 0);
+        }
+        int viajes = 0;
+        for (int tamano = 0; tamano < restantes.length; tamano++) {
+            for (int unidad = 0; unidad < restantes[tamano]; unidad++) {
+                int viaje = 0;
+                while (viaje < viajes && !entra(pesoViaje[viaje], volumenViaje[viaje], tamano, 1)) {
+                    viaje++;
+                }
+                viajes = Math.max(viajes, viaje + 1);
+                pesoViaje[viaje] += pesoTamano[tamano];
+                volumenViaje[viaje] += volumenTamano[tamano];
+                cargaViaje[viaje][tamano]++;
+            }
+        }
+        viajesSolucion = viajes;
+        return viajes;
+    }
+
+    /**
+     * Busca cómo transportar las unidades restantes en {@code viajes} viajes como mucho.
+     *
+     * @param clave estado codificado con las cantidades restantes de cada tamaño
+     * @param unidades unidades restantes
+     * @return true si encontró una solución; sus viajes quedan en {@link #cargaViaje}
+     */
+    private boolean completar(long clave, int unidades, int viajes) {
+        if (unidades == 0) {
+            viajesSolucion = viajesArmados;
+            return true;
+        }
+        if (viajes == 0 || abandonada) {
+            return false;
+        }
+        if (++nodos > NODOS_MAXIMOS) {
+            abandonada = true;
+            return false;
+        }
+        Integer insuficientes = viajesInsuficientes.get(clave);
+        if (insuficientes != null && insuficientes >= viajes) {
+            return false;
+        }
+        if (cotaEstado() > viajes) {
+            viajesInsuficientes.merge(clave, viajes, Math::max);
+            return false;
+        }
+
+        int mayor = 0;
+        while (restantes[mayor] == 0) {
+            mayor++;
+        }
+        int[] carga = cargaViaje[viajesArmados++];
+        Arrays.fill(carga, 0);
+        carga[mayor] = 1;
+        restantes[mayor]--;
+        boolean resuelto = armarViaje(carga, mayor, pesoTamano[mayor], volumenTamano[mayor],
+                clave - multiplicador[mayor], unidades - 1, viajes);
+        restantes[mayor]++;
+        viajesArmados--;
+        if (!resuelto && !abandonada) {
+            viajesInsuficientes.merge(clave, viajes, Math::max);
+        }
+        return resuelto;
+    }
+
+    /**
+     * Decide cuántas unidades de cada tamaño desde {@code tamano} completan el viaje en curso,
+     * probando primero las cargas más llenas, y sigue con los demás viajes sólo si el viaje
+     * quedó maximal.
+     */
+    private boolean armarViaje(int[] carga, int tamano, double peso, double volumen,
+                               long clave, int unidades, int viajes) {
+        if (tamano == restantes.length) {
+            return esMaximal(peso, volumen) && completar(clave, unidades, viajes - 1);
+        }
+        int maximo = restantes[tamano];
+        while (maximo > 0 && !entra(peso, volumen, tamano, maximo)) {
+            maximo--;
+        }
+        int previa = carga[tamano];
+        for (int cantidad = maximo; cantidad >= 0 && !abandonada; cantidad--) {
+            restantes[tamano] -= cantidad;
+            carga[tamano] = previa + cantidad;
+            boolean resuelto = armarViaje(carga, tamano + 1, peso + pesoTamano[tamano] * cantidad,
+                    volumen + volumenTamano[tamano] * cantidad, clave - multiplicador[tamano] * cantidad,
+                    unidades - cantidad, viajes);
+            restantes[tamano] += cantidad;
+            if (resuelto) {
+                return true;
+            }
+        }
+        carga[tamano] = previa;
+        return false;
+    }
+
+    private boolean esMaximal(double peso, double volumen) {
+        for (int tamano = 0; tamano < restantes.length; tamano++) {
+            if (restantes[tamano] > 0 && entra(peso, volumen, tamano, 1)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Viajes que necesitan las unidades restantes: los de cada dimensión por separado, y uno por
+     * unidad que supera la mitad de la capacidad en una dimensión, porque dos no comparten viaje.
+     */
+    private int cotaEstado() {
+        double peso = 0.0;
+        double volumen = 0.0;
+        int grandesPeso = 0;
+        int grandesVolumen = 0;
+        for (int tamano = 0; tamano < restantes.length; tamano++) {
+            peso += pesoTamano[tamano] * restantes[tamano];
+            volumen += volumenTamano[tamano] * restantes[tamano];
+            grandesPeso += pesoTamano[tamano] * 2 > pesoMaximo ? restantes[tamano] : 0;
+            grandesVolumen += volumenTamano[tamano] * 2 > volumenMaximo ? restantes[tamano] : 0;
+        }
+        return Math.max(Math.max(grandesPeso, grandesVolumen), Math.max(
+                EvaluadorFitness.viajesMinimos(peso, pesoMaximo), EvaluadorFitness.viajesMinimos(volumen, volumenMaximo)));
+    }
+
+    private boolean entra(double peso, double volumen, int tamano, int cantidad) {
+        return peso + pesoTamano[tamano] * cantidad <= pesoMaximo
+                && volumen + volumenTamano[tamano] * cantidad <= volumenMaximo;
+    }
+
+    /** Arma los viajes de la solución con el mismo formato que el algoritmo genético. */
+    private ResultadoOptimizacion construirResultado(long tiempoMs) {
+        String[] productoPorGen = modelo.getProductoPorGen();
+        double[] pesoPorGen = modelo.getPesoPorGen();
+        double[] volumenPorGen = modelo.getVolumenPorGen();
+        TipoDron dron = modelo.getFlota().getTipos().get(0);
+
+        // Las unidades de cada tamaño se toman de sus genes en orden.
+        int[] genActual = new int[genesPorTamano.length];
+        long[] disponiblesGenActual = new long[genesPorTamano.length];
+        for (int tamano = 0; tamano < genesPorTamano.length; tamano++) {
+            disponiblesGenActual[tamano] = unidadesDeGen(genesPorTamano[tamano][0]);
+        }
+        List<ViajeOptimo> viajes = new ArrayList<>(viajesSolucion);
+        for (int viaje = 0; viaje < viajesSolucion; viaje++) {
+            ViajeOptimo nuevo = new ViajeOptimo(viaje + 1);
+            nuevo.setDron(dron);
+            for (int tamano = 0; tamano < genesPorTamano.length; tamano++) {
+                int pendientes = cargaViaje[viaje][tamano];
+                while (pendientes > 0) {
+                    while (disponiblesGenActual[tamano] == 0) {
+                        disponiblesGenActual[tamano] = unidadesDeGen(genesPorTamano[tamano][++genActual[tamano]]);
+                    }
+                    int gen = genesPorTamano[tamano][genActual[tamano]];
+                    int cantidad = (int) Math.min(pendientes, disponiblesGenActual[tamano]);
+                    nuevo.agregarProducto(productoPorGen[gen], cantidad, pesoPorGen[gen]);
+                    nuevo.agregarVolumen(volumenPorGen[gen] * cantidad);
+                    disponiblesGenActual[tamano] -= cantidad;
+                    pendientes -= cantidad;
+                }
+            }
+            viajes.add(nuevo);
+        }
+
+        double aptitud = new EvaluadorFitness(modelo, false, config.getTipoDecodificador())
+                .fitnessConViajes(viajesSolucion);
+        List<Double> historialFitness = new ArrayList<>();
+        historialFitness.add(aptitud);
+        List<Integer> historialViajes = new ArrayList<>();
+        historialViajes.add(viajesSolucion);
+
+        ResultadoOptimizacion resultado = new ResultadoOptimizacion();
+        resultado.setConfiguracion(config);
+        resultado.setViajes(viajes);
+        resultado.setMejorAptitud(aptitud);
+        resultado.setCriterioParada(CriterioParada.SOLUCION_EXACTA);
+        resultado.setTiempoEjecucion(tiempoMs);
+        resultado.setHistorialFitness(historialFitness);
+        resultado.setHistorialViajes(historialViajes);
+        // La búsqueda completa prueba que no hay soluciones con menos viajes.
+        resultado.setCotaViajes(viajesSolucion);
+        return resultado;
+    }
+
+    private long unidadesDeGen(int gen) {
+        return (long) modelo.getCantidadPorGen()[gen] * modelo.getUnidadesPorGen()[gen];
+    }
+}
@@ -0,0 +1,49 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Tarea fork/join que evalúa un rango de la población dividiéndolo en mitades
+ * hasta alcanzar el umbral de trabajo secuencial.
+ * Cada hoja usa su propio contador, por lo que el resultado no depende del orden de ejecución.
+ */
+class TareaEvaluacion extends RecursiveAction {
+
+    private final List<Cromosoma> poblacion;
+    private final EvaluadorFitness evaluador;
+    private final int desde;
+    private final int hasta;
+    private final int umbral;
+
+    /**
+     * @param poblacion cromosomas a evaluar
+     * @param evaluador evaluador compartido entre hojas
+     * @param desde primer índice incluido
+     * @param hasta último índice excluido
+     * @param umbral cantidad máxima de cromosomas evaluados sin volver a dividir
+     */
+    TareaEvaluacion(List<Cromosoma> poblacion, EvaluadorFitness evaluador, int desde, int hasta, int umbral) {
+        this.poblacion = poblacion;
+        this.evaluador = evaluador;
+        this.desde = desde;
+        this.hasta = hasta;
+        this.umbral = umbral;
+    }
+
+    @Override
+    protected void compute() {
+        if (hasta - desde <= umbral) {
+            int[] conteo = evaluador.crearContador();
+            for (int i = desde; i < hasta; i++) {
+                Cromosoma cromosoma = poblacion.get(i);
+                cromosoma.setFitness(evaluador.evaluar(cromosoma, conteo));
+            }
+            return;
+        }
+
+        int medio = (desde + hasta) >>> 1;
+        invokeAll(new TareaEvaluacion(poblacion, evaluador, desde, medio, umbral),
+                new TareaEvaluacion(poblacion, evaluador, medio, hasta, umbral));
+    }
+}
@@ -16,7 +16,9 @@ public class TestCruzas {
         Cruza[] cruzas = {
                 new CruzaUnPunto(),
                 new CruzaDosPuntos(),
-                new CruzaUniforme()
+                new CruzaUniforme(),
+                new CruzaOrden(),
+                new CruzaCiclos()
         };
 
         for (Cruza cruza : cruzas) {
@@ -0,0 +1,64 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+/**
+ * Modelo de dron de la flota: capacidad y costo de un viaje, más los drones que despegan juntos
+ * en cada ronda de despacho. La optimización no limita los viajes por tipo: los drones por ronda
+ * sólo sirven para informar cuántas rondas requieren los viajes elegidos.
+ */
+public final class TipoDron {
+
+    private final String nombre;
+    private final double pesoMaximo;
+    private final double volumenMaximo;
+    private final int dronesPorRonda;
+    private final double costoPorViaje;
+
+    /**
+     * @param nombre identificador del modelo en la salida
+     * @param pesoMaximo peso máximo por viaje en kg
+     * @param volumenMaximo volumen máximo por viaje en cm3
+     * @param dronesPorRonda drones de este modelo que vuelan a la vez; sólo se usa para contar
+     *                       las rondas de despacho en la salida
+     * @param costoPorViaje costo de un viaje, en cualquier unidad común a toda la flota
+     * @throws IllegalArgumentException si algún valor está fuera de rango
+     */
+    public TipoDron(String nombre, double pesoMaximo, double volumenMaximo, int dronesPorRonda, double costoPorViaje) {
+        if (nombre == null || nombre.isBlank()) {
+            throw new IllegalArgumentException("El tipo de dron necesita un nombre");
+        }
+        if (!(pesoMaximo >= 0) || !(volumenMaximo >= 0) || dronesPorRonda <= 0 || !(costoPorViaje > 0)) {
+            throw new IllegalArgumentException("Capacidad, drones por ronda o costo inválidos para el dron " + nombre);
+        }
+        this.nombre = nombre;
+        this.pesoMaximo = pesoMaximo;
+        this.volumenMaximo = volumenMaximo;
+        this.dronesPorRonda = dronesPorRonda;
+        this.costoPorViaje = costoPorViaje;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public double getPesoMaximo() {
+        return pesoMaximo;
+    }
+
+    public double getVolumenMaximo() {
+        return volumenMaximo;
+    }
+
+    /** @return drones que vuelan a la vez en cada ronda de despacho */
+    public int getDronesPorRonda() {
+        return dronesPorRonda;
+    }
+
+    public double getCostoPorViaje() {
+        return costoPorViaje;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (%s kg, %s cm3, x%d, costo %s)", nombre, pesoMaximo, volumenMaximo, dronesPorRonda, costoPorViaje);
+    }
+}
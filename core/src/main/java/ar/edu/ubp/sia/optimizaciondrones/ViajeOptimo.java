@@ -12,6 +12,7 @@ public class ViajeOptimo {
     private double pesoTotal;
     private double volumenTotal;
     private int numeroViaje;
+    private TipoDron dron;
 
     /** Crea un viaje vacío sin número asignado. */
     public ViajeOptimo() {
@@ -60,6 +61,16 @@ public class ViajeOptimo {
         volumenTotal = 0.0;
     }
 
+    /** @return viaje independiente con los mismos productos, totales, número y dron */
+    public ViajeOptimo copiar() {
+        ViajeOptimo copia = new ViajeOptimo(numeroViaje);
+        copia.productos.putAll(productos);
+        copia.pesoTotal = pesoTotal;
+        copia.volumenTotal = volumenTotal;
+        copia.dron = dron;
+        return copia;
+    }
+
     /**
      * Incorpora producto al viaje y acumula su peso.
      */
@@ -91,6 +102,16 @@ public class ViajeOptimo {
         this.numeroViaje = numeroViaje;
     }
 
+    /** @return dron asignado al viaje, o {@code null} si no se asignó uno. */
+    public TipoDron getDron() {
+        return dron;
+    }
+
+    /** @param dron tipo de dron que vuela el viaje. */
+    public void setDron(TipoDron dron) {
+        this.dron = dron;
+    }
+
     /** Acumula volumen de la carga. */
     public void agregarVolumen(double volumen) {
         this.volumenTotal += volumen;
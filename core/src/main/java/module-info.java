@@ -0,0 +1,7 @@
+module ar.edu.ubp.sia.optimizaciondrones.core {
+    requires java.management;
+    requires jdk.jfr;
+    requires jdk.management;
+
+    exports ar.edu.ubp.sia.optimizaciondrones;
+}
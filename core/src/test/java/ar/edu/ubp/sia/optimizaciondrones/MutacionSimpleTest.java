@@ -0,0 +1,57 @@
+package ar.edu.ubp.sia.optimizaciondrones;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class MutacionSimpleTest {
+
+    private static final Flota FLOTA = Flota.uniforme(17, 150000);
+
+    @Test
+    void cromosomaDeUnGenNoCambiaNiSeBloquea() {
+        ModeloPedido modelo = ModeloPedido.compilar(Map.of("Caja", 6.8), Map.of("Caja", 1000.0),
+                Map.of("Caja", 30), 100, FLOTA);
+        MutacionSimple mutacion = new MutacionSimple(new SplittableRandom(1));
+        mutacion.prepararPedido(modelo);
+        Cromosoma cromosoma = new Cromosoma(new int[]{0});
+
+        assertEquals(1, modelo.getLongitudCromosoma());
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> mutacion.mutar(cromosoma));
+        assertArrayEquals(new int[]{0}, cromosoma.getGenes());
+    }
+
+    @Test
+    void conLotesUsaLosIdsDeGenDelPedido() {
+        // 7 unidades en lotes de 3: dos lotes completos y uno de resto, ids 0 y 1 en 3 genes.
+        ModeloPedido modelo = ModeloPedido.compilar(Map.of("Caja", 6.8), Map.of("Caja", 1000.0),
+                Map.of("Caja", 7), 3, FLOTA);
+        assertEquals(2, modelo.getCantidadTiposGen());
+        assertEquals(3, modelo.getLongitudCromosoma());
+
+        MutacionSimple mutacion = new MutacionSimple(new SplittableRandom(7));
+        mutacion.prepararPedido(modelo);
+        for (int i = 0; i < 1000; i++) {
+            Cromosoma cromosoma = new Cromosoma(new int[]{0, 0, 1});
+            mutacion.mutar(cromosoma);
+
+            int cambios = 0;
+            int[] originales = {0, 0, 1};
+            for (int j = 0; j < originales.length; j++) {
+                int gen = cromosoma.getGene(j);
+                assertTrue(gen >= 0 && gen < modelo.getCantidadTiposGen(), "id de gen fuera del pedido: " + gen);
+                if (gen != originales[j]) {
+                    cambios++;
+                }
+            }
+            assertEquals(1, cambios);
+        }
+    }
+}
@@ -1,8 +0,0 @@
-package ar.edu.ubp.sia.optimizaciondrones;
-
-/**
- * Interface para operador de mutación
- */
-public interface Mutacion {
-    void mutar(Cromosoma cromosoma);
-}
\ No newline at end of file